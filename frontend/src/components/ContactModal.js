@@ -14,6 +14,15 @@ import {
 } from '@mui/material';
 import { X, Plus, Trash2 } from 'lucide-react';
 
+const toFormData = (contact) => ({
+  firstName: contact.firstName || '',
+  lastName: contact.lastName || '',
+  title: contact.title || '',
+  version: contact.version,
+  emails: contact.emails.length > 0 ? contact.emails : [{ email: '', type: 'WORK' }],
+  phones: contact.phones.length > 0 ? contact.phones : [{ phoneNumber: '', type: 'WORK' }],
+});
+
 const ContactModal = ({ open, contact, onClose }) => {
   const [formData, setFormData] = useState({
     firstName: '',
@@ -27,13 +36,7 @@ const ContactModal = ({ open, contact, onClose }) => {
 
   useEffect(() => {
     if (contact) {
-      setFormData({
-        firstName: contact.firstName || '',
-        lastName: contact.lastName || '',
-        title: contact.title || '',
-        emails: contact.emails.length > 0 ? contact.emails : [{ email: '', type: 'WORK' }],
-        phones: contact.phones.length > 0 ? contact.phones : [{ phoneNumber: '', type: 'WORK' }],
-      });
+      setFormData(toFormData(contact));
     } else {
       setFormData({
         firstName: '',
@@ -112,7 +115,13 @@ const ContactModal = ({ open, contact, onClose }) => {
       }
       onClose(true);
     } catch (err) {
-      setError(err.response?.data?.message || 'Failed to save contact');
+      if (err.response?.status === 409 && err.response.data?.data) {
+        // Someone else saved first; show their version so nothing is overwritten blindly
+        setFormData(toFormData(err.response.data.data));
+        setError('This contact was changed elsewhere. Review the latest version and save again.');
+      } else {
+        setError(err.response?.data?.message || 'Failed to save contact');
+      }
     } finally {
       setLoading(false);
     }
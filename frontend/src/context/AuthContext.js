@@ -30,8 +30,9 @@ export const AuthProvider = ({ children }) => {
 
   const login = async (credentials) => {
     const response = await authAPI.login(credentials);
-    const { token, user } = response.data.data;
+    const { token, refreshToken, user } = response.data.data;
     localStorage.setItem('token', token);
+    localStorage.setItem('refreshToken', refreshToken);
     setToken(token);
     setUser(user);
     return response.data;
@@ -39,21 +40,34 @@ export const AuthProvider = ({ children }) => {
 
   const register = async (userData) => {
     const response = await authAPI.register(userData);
-    const { token, user } = response.data.data;
+    const { token, refreshToken, user } = response.data.data;
     localStorage.setItem('token', token);
+    localStorage.setItem('refreshToken', refreshToken);
     setToken(token);
     setUser(user);
     return response.data;
   };
 
   const logout = () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      // Best effort; the refresh token expires on its own otherwise
+      authAPI.logout(refreshToken).catch(() => {});
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     setToken(null);
     setUser(null);
   };
 
   const changePassword = async (passwords) => {
     const response = await authAPI.changePassword(passwords);
+    // Changing the password revokes older tokens, including this one
+    const { token, refreshToken, user } = response.data.data;
+    localStorage.setItem('token', token);
+    localStorage.setItem('refreshToken', refreshToken);
+    setToken(token);
+    setUser(user);
     return response.data;
   };
 
@@ -1,6 +1,7 @@
-import { useState } from 'react';
+import { useEffect, useState } from 'react';
 import { useNavigate, Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
+import { authAPI } from '../services/api';
 import {
   TextField,
   Button,
@@ -25,9 +26,45 @@ const Register = () => {
   const [showPassword, setShowPassword] = useState(false);
   const [error, setError] = useState('');
   const [loading, setLoading] = useState(false);
+  const [taken, setTaken] = useState({ email: false, phoneNumber: false });
   const { register } = useAuth();
   const navigate = useNavigate();
 
+  // Checks availability as the user types; unknown names are answered by the
+  // server's in-memory filter without a database query
+  useEffect(() => {
+    const email = formData.email.trim();
+    const phoneNumber = formData.phoneNumber.trim();
+    if (!email && !phoneNumber) {
+      setTaken({ email: false, phoneNumber: false });
+      return undefined;
+    }
+
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const response = await authAPI.checkAvailability({
+          email: email || undefined,
+          phoneNumber: phoneNumber || undefined,
+        });
+        const { emailAvailable, phoneNumberAvailable } = response.data.data;
+        if (!cancelled) {
+          setTaken({
+            email: emailAvailable === false,
+            phoneNumber: phoneNumberAvailable === false,
+          });
+        }
+      } catch (err) {
+        // Registration itself still reports duplicates
+      }
+    }, 250);
+
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [formData.email, formData.phoneNumber]);
+
   const handleChange = (e) => {
     setFormData({
       ...formData,
@@ -130,7 +167,12 @@ const Register = () => {
               onChange={handleChange}
               variant="outlined"
               disabled={loading}
-              helperText="Required if phone number is not provided"
+              error={taken.email}
+              helperText={
+                taken.email
+                  ? 'This email is already registered'
+                  : 'Required if phone number is not provided'
+              }
             />
 
             <TextField
@@ -142,7 +184,12 @@ const Register = () => {
               variant="outlined"
               disabled={loading}
               placeholder="+1234567890"
-              helperText="Required if email is not provided"
+              error={taken.phoneNumber}
+              helperText={
+                taken.phoneNumber
+                  ? 'This phone number is already registered'
+                  : 'Required if email is not provided'
+              }
             />
 
             <TextField
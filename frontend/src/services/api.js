@@ -22,11 +22,54 @@ api.interceptors.request.use(
   }
 );
 
+// Requests whose 401 means bad credentials, not an expired access token
+const NO_REFRESH_URLS = ['/auth/login', '/auth/register', '/auth/refresh'];
+
+let refreshing = null;
+
+// Concurrent 401s share one refresh, since each refresh token works once
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    refreshing = axios
+      .post(`${API_BASE_URL}/auth/refresh`, {
+        refreshToken: localStorage.getItem('refreshToken'),
+      })
+      .then((response) => {
+        const { token, refreshToken } = response.data.data;
+        localStorage.setItem('token', token);
+        localStorage.setItem('refreshToken', refreshToken);
+        return token;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    if (
+      error.response?.status === 401 &&
+      original &&
+      !original._retried &&
+      !NO_REFRESH_URLS.includes(original.url) &&
+      localStorage.getItem('refreshToken')
+    ) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch (refreshError) {
+        // Fall through and send the user to the login page
+      }
+    }
     if (error.response?.status === 401) {
       localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
       localStorage.removeItem('user');
       window.location.href = '/login';
     }
@@ -37,7 +80,9 @@ api.interceptors.response.use(
 export const authAPI = {
   register: (data) => api.post('/auth/register', data),
   login: (data) => api.post('/auth/login', data),
+  logout: (refreshToken) => api.post('/auth/logout', { refreshToken }),
   getCurrentUser: () => api.get('/auth/me'),
+  checkAvailability: (params) => api.get('/auth/availability', { params }),
   changePassword: (data) => api.put('/auth/change-password', data),
 };
 
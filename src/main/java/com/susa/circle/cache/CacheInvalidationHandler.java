@@ -0,0 +1,31 @@
+package com.susa.circle.cache;
+
+import com.susa.circle.event.ContactsChangedEvent;
+import com.susa.circle.event.UserChangedEvent;
+
+/**
+ * Implemented by in-process caches that hold user or contact data. The
+ * invalidation bus calls these methods for changes committed on other
+ * nodes, and calls invalidateAll when it may have missed some of them.
+ */
+public interface CacheInvalidationHandler {
+    default void onUserChanged(UserChangedEvent event) {}
+
+    default void onContactsChanged(ContactsChangedEvent event) {}
+
+    /**
+     * Whether this handler caches contact data. Contact changes are only sent
+     * to other nodes while some handler does; every node runs the same ones.
+     */
+    default boolean handlesContactChanges() {
+        return false;
+    }
+
+    /**
+     * Called when the bus stops listening. Changes on other nodes go unseen
+     * until the next invalidateAll, which follows a reconnect.
+     */
+    default void onDisconnected() {}
+
+    void invalidateAll();
+}
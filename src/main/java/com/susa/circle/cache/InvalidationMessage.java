@@ -0,0 +1,30 @@
+package com.susa.circle.cache;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JSON payload of a NOTIFY on the invalidation channel.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvalidationMessage {
+
+    public static final String USER = "user";
+    public static final String CONTACTS = "contacts";
+
+    private String type;
+
+    // Node that committed the change; it has already evicted locally
+    private String origin;
+
+    private Long userId;
+    private String email;
+    private String phoneNumber;
+    private List<Long> contactIds;
+}
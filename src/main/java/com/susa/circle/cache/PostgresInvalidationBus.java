@@ -0,0 +1,305 @@
+package com.susa.circle.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.susa.circle.event.ContactsChangedEvent;
+import com.susa.circle.event.UserChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries cache invalidations between nodes over PostgreSQL LISTEN/NOTIFY.
+ *
+ * Writers send a NOTIFY inside their own transaction, so other nodes hear
+ * about a change only once it commits. Each node listens on a dedicated
+ * connection outside the pool and passes remote changes to every
+ * CacheInvalidationHandler. Notifications sent while a node was not
+ * listening are lost, so handlers are told when it stops listening and
+ * every (re)connect starts with a full flush.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresInvalidationBus implements SmartLifecycle {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // NOTIFY fails on payloads of 8000 bytes or more, which would roll back
+    // the writer's transaction; messages with too many contact ids are sent
+    // as a change to all of the user's contacts instead
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private final List<CacheInvalidationHandler> handlers;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.invalidation.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${cache.invalidation.poll-timeout:10000}")
+    private int pollTimeoutMillis;
+
+    @Value("${cache.invalidation.reconnect-delay:2000}")
+    private long reconnectDelayMillis;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listener;
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        publish(
+            InvalidationMessage.builder()
+                .type(InvalidationMessage.USER)
+                .userId(event.getUserId())
+                .email(event.getEmail())
+                .phoneNumber(event.getPhoneNumber())
+                .build()
+        );
+    }
+
+    @EventListener
+    public void onContactsChanged(ContactsChangedEvent event) {
+        // Nobody caches contacts yet, so the round trip would be wasted
+        if (
+            handlers
+                .stream()
+                .noneMatch(CacheInvalidationHandler::handlesContactChanges)
+        ) {
+            return;
+        }
+        publish(
+            InvalidationMessage.builder()
+                .type(InvalidationMessage.CONTACTS)
+                .userId(event.getUserId())
+                .contactIds(event.getContactIds())
+                .build()
+        );
+    }
+
+    private void publish(InvalidationMessage message) {
+        if (!enabled) {
+            return;
+        }
+        message.setOrigin(nodeId);
+        // Postgres queues the notification until the writer's transaction
+        // commits and drops it on rollback
+        entityManager
+            .createNativeQuery("SELECT 1 FROM pg_notify(:channel, :payload)")
+            .setParameter("channel", channel)
+            .setParameter("payload", payload(message))
+            .getSingleResult();
+    }
+
+    String payload(InvalidationMessage message) {
+        String payload = serialize(message);
+        if (
+            payload.getBytes(StandardCharsets.UTF_8).length >
+                MAX_PAYLOAD_BYTES &&
+            message.getContactIds() != null
+        ) {
+            message.setContactIds(null);
+            payload = serialize(message);
+        }
+        return payload;
+    }
+
+    private static String serialize(InvalidationMessage message) {
+        try {
+            return MAPPER.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                "Cannot serialize invalidation message",
+                e
+            );
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException(
+                "Invalid cache invalidation channel: " + channel
+            );
+        }
+        running = true;
+        listener = Thread.ofPlatform()
+            .name("cache-invalidation-listener")
+            .daemon()
+            .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Connection current = connection;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug(
+                    "Closing listener connection failed: {}",
+                    e.getMessage()
+                );
+            }
+        }
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (
+                Connection conn = DriverManager.getConnection(
+                    url,
+                    username,
+                    password
+                )
+            ) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on {}", channel);
+                flushAll();
+
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications =
+                        pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications == null || notifications.length == 0) {
+                        // A quiet channel may also be a dead connection
+                        try (Statement statement = conn.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn(
+                        "Cache invalidation listener disconnected: {}",
+                        e.getMessage()
+                    );
+                    pause();
+                }
+            } finally {
+                connection = null;
+                disconnected();
+            }
+        }
+    }
+
+    void handle(String payload) {
+        InvalidationMessage message;
+        try {
+            message = MAPPER.readValue(payload, InvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable invalidation message: {}", payload);
+            flushAll();
+            return;
+        }
+        if (nodeId.equals(message.getOrigin())) {
+            // Evicted locally once the transaction committed
+            return;
+        }
+
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                if (InvalidationMessage.USER.equals(message.getType())) {
+                    handler.onUserChanged(
+                        new UserChangedEvent(
+                            message.getUserId(),
+                            message.getEmail(),
+                            message.getPhoneNumber()
+                        )
+                    );
+                } else if (
+                    InvalidationMessage.CONTACTS.equals(message.getType())
+                ) {
+                    handler.onContactsChanged(
+                        new ContactsChangedEvent(
+                            message.getUserId(),
+                            message.getContactIds()
+                        )
+                    );
+                } else {
+                    handler.invalidateAll();
+                }
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void disconnected() {
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.onDisconnected();
+            } catch (RuntimeException e) {
+                log.error(
+                    "Cache disconnect handling failed: {}",
+                    e.getMessage()
+                );
+            }
+        }
+    }
+
+    private void flushAll() {
+        log.info("Flushing all invalidatable caches");
+        for (CacheInvalidationHandler handler : handlers) {
+            handler.invalidateAll();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.susa.circle.config;
 
+import com.susa.circle.security.AuthRateLimitFilter;
+import com.susa.circle.security.BoundedPasswordEncoder;
+import com.susa.circle.security.CalibratedPasswordEncoders;
 import com.susa.circle.security.JwtAuthenticationEntryPoint;
 import com.susa.circle.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.ProviderManager;
@@ -16,8 +22,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -32,30 +38,60 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    // Hashing runs on its own bounded pool instead of request threads, at a
+    // cost calibrated to this machine
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        MeterRegistry meterRegistry,
+        @Value("${auth.hashing.algorithm:bcrypt}") String algorithm,
+        @Value("${auth.hashing.target-millis:200}") long targetMillis,
+        @Value("${auth.hashing.cost:0}") int cost,
+        @Value("${auth.hashing.threads:0}") int threads,
+        @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${auth.hashing.timeout:5000}") long timeoutMillis
+    ) {
+        int poolSize = threads > 0
+            ? threads
+            : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+            CalibratedPasswordEncoders.create(algorithm, targetMillis, cost),
+            poolSize,
+            queueCapacity,
+            timeoutMillis,
+            meterRegistry
+        );
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(
+        PasswordEncoder passwordEncoder
+    ) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(
             userDetailsService
         );
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        // Rehashes at the current algorithm and cost after a successful login
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
         return provider;
     }
 
     @Bean
-    public AuthenticationManager authenticationManager() {
-        return new ProviderManager(authenticationProvider());
+    public AuthenticationManager authenticationManager(
+        AuthenticationProvider authenticationProvider
+    ) {
+        return new ProviderManager(authenticationProvider);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+        HttpSecurity http,
+        AuthenticationProvider authenticationProvider
+    ) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -71,11 +107,18 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/api/public/**")
                     .permitAll()
+                    .requestMatchers("/actuator/health")
+                    .permitAll()
                     .anyRequest()
                     .authenticated()
             );
 
-        http.authenticationProvider(authenticationProvider());
+        http.authenticationProvider(authenticationProvider);
+        // Throttles login and registration before any hashing happens
+        http.addFilterBefore(
+            authRateLimitFilter,
+            UsernamePasswordAuthenticationFilter.class
+        );
         http.addFilterBefore(
             jwtAuthenticationFilter,
             UsernamePasswordAuthenticationFilter.class
@@ -94,6 +137,9 @@ public class SecurityConfig {
             Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
         );
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Browsers hide response headers from scripts unless listed here, and
+        // clients need the ETag to send If-None-Match and If-Match
+        configuration.setExposedHeaders(List.of(HttpHeaders.ETAG));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
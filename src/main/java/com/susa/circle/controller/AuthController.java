@@ -2,9 +2,11 @@ package com.susa.circle.controller;
 
 import com.susa.circle.dto.request.ChangePasswordRequest;
 import com.susa.circle.dto.request.LoginRequest;
+import com.susa.circle.dto.request.RefreshTokenRequest;
 import com.susa.circle.dto.request.RegisterRequest;
 import com.susa.circle.dto.response.ApiResponse;
 import com.susa.circle.dto.response.AuthResponse;
+import com.susa.circle.dto.response.AvailabilityResponse;
 import com.susa.circle.dto.response.UserResponse;
 import com.susa.circle.security.CustomUserDetails;
 import com.susa.circle.service.AuthService;
@@ -46,6 +48,38 @@ public class AuthController {
         );
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(
+        @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        log.debug("Refresh endpoint called");
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(
+            ApiResponse.success("Token refreshed", response)
+        );
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+        @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        log.info("Logout endpoint called");
+        authService.logout(request);
+        return ResponseEntity.ok(ApiResponse.success("Logged out", null));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<AvailabilityResponse>> checkAvailability(
+        @RequestParam(required = false) String email,
+        @RequestParam(required = false) String phoneNumber
+    ) {
+        AvailabilityResponse response = authService.checkAvailability(
+            email,
+            phoneNumber
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(
         @AuthenticationPrincipal CustomUserDetails userDetails
@@ -56,14 +90,17 @@ public class AuthController {
     }
 
     @PutMapping("/change-password")
-    public ResponseEntity<ApiResponse<Void>> changePassword(
+    public ResponseEntity<ApiResponse<AuthResponse>> changePassword(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @Valid @RequestBody ChangePasswordRequest request
     ) {
         log.info("Change password endpoint called");
-        authService.changePassword(userDetails.getId(), request);
+        AuthResponse response = authService.changePassword(
+            userDetails.getId(),
+            request
+        );
         return ResponseEntity.ok(
-            ApiResponse.success("Password changed successfully", null)
+            ApiResponse.success("Password changed successfully", response)
         );
     }
 }
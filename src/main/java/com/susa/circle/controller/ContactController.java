@@ -1,17 +1,42 @@
 package com.susa.circle.controller;
 
+import com.susa.circle.dto.request.ContactBatchRequest;
+import com.susa.circle.dto.request.ContactBulkUpdateRequest;
+import com.susa.circle.dto.request.ContactMultiGetRequest;
 import com.susa.circle.dto.request.ContactRequest;
+import com.susa.circle.dto.request.ContactSelectionRequest;
+import com.susa.circle.dto.request.PhoneLookupRequest;
 import com.susa.circle.dto.response.ApiResponse;
+import com.susa.circle.dto.response.ContactBatchResponse;
+import com.susa.circle.dto.response.ContactBulkResponse;
+import com.susa.circle.dto.response.ContactMultiGetResponse;
 import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.dto.response.ContactStatsResponse;
+import com.susa.circle.dto.response.CursorPageResponse;
+import com.susa.circle.dto.response.PhoneLookupResponse;
+import com.susa.circle.enums.ContactSortField;
+import com.susa.circle.enums.SearchMode;
+import com.susa.circle.exception.BadRequestException;
+import com.susa.circle.exception.ConflictException;
 import com.susa.circle.security.CustomUserDetails;
 import com.susa.circle.service.ContactService;
+import com.susa.circle.service.ContactStatsService;
+import com.susa.circle.service.PhoneLookupService;
+import com.susa.circle.util.ContactCursor;
+import com.susa.circle.util.ContactETags;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,7 +48,16 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class ContactController {
 
+    // Clients may keep contact reads but must revalidate them on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache()
+        .cachePrivate();
+
+    // Largest page a cursor walk may request; each page fetches one more row
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ContactService contactService;
+    private final PhoneLookupService phoneLookupService;
+    private final ContactStatsService contactStatsService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ContactResponse>> createContact(
@@ -40,24 +74,150 @@ public class ContactController {
         );
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<ContactBatchResponse>> createContacts(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody ContactBatchRequest request
+    ) {
+        log.info(
+            "Batch create contacts endpoint called with {} contacts",
+            request.getContacts().size()
+        );
+        ContactBatchResponse response = contactService.createContacts(
+            userDetails.getId(),
+            request.getContacts()
+        );
+        return ResponseEntity.ok(
+            ApiResponse.success("Contact batch processed", response)
+        );
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<ContactBulkResponse>> deleteContacts(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestBody ContactSelectionRequest request
+    ) {
+        log.info("Bulk delete contacts endpoint called");
+        ContactBulkResponse response = contactService.deleteContacts(
+            userDetails.getId(),
+            request.getIds(),
+            request.getQuery()
+        );
+        return ResponseEntity.ok(
+            ApiResponse.success("Contacts deleted successfully", response)
+        );
+    }
+
+    @PostMapping("/bulk/update")
+    public ResponseEntity<ApiResponse<ContactBulkResponse>> updateContacts(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody ContactBulkUpdateRequest request
+    ) {
+        log.info("Bulk update contacts endpoint called");
+        ContactBulkResponse response = contactService.updateContactTitles(
+            userDetails.getId(),
+            request.getIds(),
+            request.getQuery(),
+            request.getTitle()
+        );
+        return ResponseEntity.ok(
+            ApiResponse.success("Contacts updated successfully", response)
+        );
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<Page<ContactResponse>>> getAllContacts(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "firstName") String sortBy,
-        @RequestParam(defaultValue = "ASC") String sortDir
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
     ) {
         log.info("Get all contacts endpoint called");
 
-        Sort sort = sortDir.equalsIgnoreCase("DESC")
-            ? Sort.by(sortBy).descending()
-            : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = toPageable(page, size, sortBy, sortDir);
+        return conditionalList(userDetails, ifNoneMatch, () ->
+            contactService.getAllContacts(userDetails.getId(), pageable)
+        );
+    }
+
+    @GetMapping(params = { "includeTotal=false", "!after" })
+    public ResponseEntity<ApiResponse<Slice<ContactResponse>>> getContactSlice(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "firstName") String sortBy,
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        log.info("Get contact slice endpoint called");
+
+        Pageable pageable = toPageable(page, size, sortBy, sortDir);
+        return conditionalList(userDetails, ifNoneMatch, () ->
+            contactService.getContactSlice(userDetails.getId(), null, pageable)
+        );
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<
+        ApiResponse<CursorPageResponse<ContactResponse>>
+    > getContactsAfter(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam String after,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "firstName") String sortBy,
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        log.info("Get contacts after cursor endpoint called");
+
+        checkCursorPageSize(size);
+        ContactCursor cursor = toCursor(after, sortBy, sortDir);
+        return conditionalList(userDetails, ifNoneMatch, () ->
+            contactService.getContactsAfter(
+                userDetails.getId(),
+                null,
+                cursor,
+                size
+            )
+        );
+    }
 
-        Page<ContactResponse> response = contactService.getAllContacts(
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<ContactMultiGetResponse>> getContactsByIds(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam List<Long> ids
+    ) {
+        log.info("Get contacts by ids endpoint called with {} ids", ids.size());
+        ContactMultiGetResponse response = contactService.getContactsByIds(
             userDetails.getId(),
-            pageable
+            ids
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/multi-get")
+    public ResponseEntity<ApiResponse<ContactMultiGetResponse>> multiGetContacts(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody ContactMultiGetRequest request
+    ) {
+        log.info(
+            "Multi-get contacts endpoint called with {} ids",
+            request.getIds().size()
+        );
+        ContactMultiGetResponse response = contactService.getContactsByIds(
+            userDetails.getId(),
+            request.getIds()
         );
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -66,22 +226,168 @@ public class ContactController {
     public ResponseEntity<ApiResponse<Page<ContactResponse>>> searchContacts(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @RequestParam String query,
+        @RequestParam(defaultValue = "NAME") SearchMode mode,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "firstName") String sortBy,
-        @RequestParam(defaultValue = "ASC") String sortDir
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
     ) {
-        log.info("Search contacts endpoint called with query: {}", query);
+        log.info(
+            "Search contacts endpoint called with query: {} in mode: {}",
+            query,
+            mode
+        );
 
-        Sort sort = sortDir.equalsIgnoreCase("DESC")
-            ? Sort.by(sortBy).descending()
-            : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        // Full-text results are ordered by relevance, not by sortBy
+        Pageable pageable = mode == SearchMode.FULLTEXT
+            ? PageRequest.of(page, size)
+            : toPageable(page, size, sortBy, sortDir);
+        return conditionalList(userDetails, ifNoneMatch, () ->
+            mode == SearchMode.FULLTEXT
+                ? contactService.fullTextSearchContacts(
+                    userDetails.getId(),
+                    query,
+                    pageable
+                )
+                : contactService.searchContacts(
+                    userDetails.getId(),
+                    query,
+                    pageable
+                )
+        );
+    }
 
-        Page<ContactResponse> response = contactService.searchContacts(
-            userDetails.getId(),
+    @GetMapping(value = "/search", params = { "includeTotal=false", "!after" })
+    public ResponseEntity<ApiResponse<Slice<ContactResponse>>> searchContactSlice(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam String query,
+        @RequestParam(defaultValue = "NAME") SearchMode mode,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "firstName") String sortBy,
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        log.info(
+            "Search contact slice endpoint called with query: {} in mode: {}",
             query,
-            pageable
+            mode
+        );
+
+        // Full-text results are ordered by relevance, not by sortBy
+        Pageable pageable = mode == SearchMode.FULLTEXT
+            ? PageRequest.of(page, size)
+            : toPageable(page, size, sortBy, sortDir);
+        return conditionalList(userDetails, ifNoneMatch, () ->
+            mode == SearchMode.FULLTEXT
+                ? contactService.fullTextSearchContactSlice(
+                    userDetails.getId(),
+                    query,
+                    pageable
+                )
+                : contactService.getContactSlice(
+                    userDetails.getId(),
+                    query,
+                    pageable
+                )
+        );
+    }
+
+    @GetMapping(value = "/search", params = "after")
+    public ResponseEntity<
+        ApiResponse<CursorPageResponse<ContactResponse>>
+    > searchContactsAfter(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam String query,
+        @RequestParam(defaultValue = "NAME") SearchMode mode,
+        @RequestParam String after,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "firstName") String sortBy,
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        log.info(
+            "Search contacts after cursor endpoint called with query: {}",
+            query
+        );
+
+        // A relevance ordering has no key a cursor could continue from
+        if (mode == SearchMode.FULLTEXT) {
+            throw new BadRequestException(
+                "Full-text search results cannot be paged with a cursor"
+            );
+        }
+        checkCursorPageSize(size);
+        ContactCursor cursor = toCursor(after, sortBy, sortDir);
+        return conditionalList(userDetails, ifNoneMatch, () ->
+            contactService.getContactsAfter(
+                userDetails.getId(),
+                query,
+                cursor,
+                size
+            )
+        );
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<ContactStatsResponse>> getStats(
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.info("Get contact stats endpoint called");
+        ContactStatsResponse response = contactStatsService.getStats(
+            userDetails.getId()
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<ApiResponse<ContactStatsResponse>> rebuildStats(
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.info("Rebuild contact stats endpoint called");
+        ContactStatsResponse response = contactStatsService.rebuild(
+            userDetails.getId()
+        );
+        return ResponseEntity.ok(
+            ApiResponse.success("Contact stats rebuilt successfully", response)
+        );
+    }
+
+    @GetMapping("/lookup/phone")
+    public ResponseEntity<ApiResponse<PhoneLookupResponse>> lookupPhone(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam String number
+    ) {
+        log.info("Phone lookup endpoint called");
+        PhoneLookupResponse response = phoneLookupService.lookup(
+            userDetails.getId(),
+            number
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/lookup/phone")
+    public ResponseEntity<ApiResponse<List<PhoneLookupResponse>>> lookupPhones(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody PhoneLookupRequest request
+    ) {
+        log.info(
+            "Batch phone lookup endpoint called with {} numbers",
+            request.getNumbers().size()
+        );
+        List<PhoneLookupResponse> response = phoneLookupService.lookup(
+            userDetails.getId(),
+            request.getNumbers()
         );
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -89,28 +395,54 @@ public class ContactController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ContactResponse>> getContactById(
         @AuthenticationPrincipal CustomUserDetails userDetails,
-        @PathVariable Long id
+        @PathVariable Long id,
+        @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
     ) {
         log.info("Get contact by id endpoint called");
-        ContactResponse response = contactService.getContactById(
-            userDetails.getId(),
+        Long userId = userDetails.getId();
+        String etag = ContactETags.forContact(
+            userId,
+            contactStatsService.getChangeVersion(userId),
             id
         );
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return conditional(etag, ifNoneMatch, () ->
+            contactService.getContactById(userId, id)
+        );
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ContactResponse>> updateContact(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @PathVariable Long id,
-        @Valid @RequestBody ContactRequest request
+        @Valid @RequestBody ContactRequest request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+        String ifMatch
     ) {
         log.info("Update contact endpoint called");
-        ContactResponse response = contactService.updateContact(
+        Long expectedChangeVersion = ContactETags.expectedChangeVersion(
+            ifMatch,
             userDetails.getId(),
-            id,
-            request
+            id
         );
+        ContactResponse response;
+        try {
+            response = contactService.updateContact(
+                userDetails.getId(),
+                id,
+                request,
+                expectedChangeVersion
+            );
+        } catch (OptimisticLockingFailureException e) {
+            // Another update committed between this one's read and write.
+            // This transaction rolled back, so the state is read in a new one.
+            throw new ConflictException(
+                "Contact was changed by another request",
+                contactService.getContactById(userDetails.getId(), id)
+            );
+        }
         return ResponseEntity.ok(
             ApiResponse.success("Contact updated successfully", response)
         );
@@ -119,12 +451,82 @@ public class ContactController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteContact(
         @AuthenticationPrincipal CustomUserDetails userDetails,
-        @PathVariable Long id
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+        String ifMatch
     ) {
         log.info("Delete contact endpoint called");
-        contactService.deleteContact(userDetails.getId(), id);
+        contactService.deleteContact(
+            userDetails.getId(),
+            id,
+            ContactETags.expectedChangeVersion(ifMatch, userDetails.getId(), id)
+        );
         return ResponseEntity.ok(
             ApiResponse.success("Contact deleted successfully", null)
         );
     }
+
+    // The version is read before the page, so a tag never claims a state
+    // newer than the body it was sent with
+    private <T> ResponseEntity<ApiResponse<T>> conditionalList(
+        CustomUserDetails userDetails,
+        String ifNoneMatch,
+        Supplier<T> body
+    ) {
+        Long userId = userDetails.getId();
+        String etag = ContactETags.forList(
+            userId,
+            contactStatsService.getChangeVersion(userId)
+        );
+        return conditional(etag, ifNoneMatch, body);
+    }
+
+    // A matching tag is answered before any contact row is read
+    private <T> ResponseEntity<ApiResponse<T>> conditional(
+        String etag,
+        String ifNoneMatch,
+        Supplier<T> body
+    ) {
+        if (ContactETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .body(ApiResponse.success(body.get()));
+    }
+
+    private Pageable toPageable(
+        int page,
+        int size,
+        String sortBy,
+        String sortDir
+    ) {
+        Sort sort = sortDir.equalsIgnoreCase("DESC")
+            ? Sort.by(sortBy).descending()
+            : Sort.by(sortBy).ascending();
+        return PageRequest.of(page, size, sort);
+    }
+
+    private static void checkCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException(
+                "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE
+            );
+        }
+    }
+
+    // An empty "after" starts a cursor walk; later pages carry their own sort
+    private ContactCursor toCursor(String after, String sortBy, String sortDir) {
+        if (after.isEmpty()) {
+            return ContactCursor.first(
+                ContactSortField.fromProperty(sortBy),
+                sortDir.equalsIgnoreCase("DESC")
+            );
+        }
+        return ContactCursor.decode(after);
+    }
 }
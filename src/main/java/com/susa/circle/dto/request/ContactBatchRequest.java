@@ -0,0 +1,20 @@
+package com.susa.circle.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Items are validated one by one by the service, so an invalid item is
+ * reported in the response instead of rejecting the whole batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactBatchRequest {
+
+    @NotEmpty(message = "At least one contact is required")
+    private List<ContactRequest> contacts;
+}
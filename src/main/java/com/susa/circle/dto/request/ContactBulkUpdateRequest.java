@@ -0,0 +1,24 @@
+package com.susa.circle.dto.request;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sets {@code title} on the selected contacts. The selection works as in
+ * {@link ContactSelectionRequest}, and a null title clears it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactBulkUpdateRequest {
+
+    private List<Long> ids;
+
+    private String query;
+
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    private String title;
+}
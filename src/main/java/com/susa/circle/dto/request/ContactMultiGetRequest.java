@@ -0,0 +1,16 @@
+package com.susa.circle.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMultiGetRequest {
+
+    @NotEmpty(message = "At least one id is required")
+    private List<Long> ids;
+}
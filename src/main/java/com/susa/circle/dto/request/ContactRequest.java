@@ -37,4 +37,8 @@ public class ContactRequest {
 
     @Valid
     private List<PhoneRequest> phones;
+
+    // The version the client last read. When present, an update fails with
+    // a conflict if the contact changed since.
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package com.susa.circle.dto.request;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Selects the caller's contacts for a bulk operation, either by id or by the
+ * same name matching as the search endpoint. Exactly one must be given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactSelectionRequest {
+
+    private List<Long> ids;
+
+    private String query;
+}
@@ -16,11 +16,15 @@ public class AuthResponse {
     @Builder.Default
     private String type = "Bearer";
 
+    // Exchanged at /api/auth/refresh for a new token once this one expires
+    private String refreshToken;
+
     private UserResponse user;
 
-    public AuthResponse(String token, UserResponse user) {
+    public AuthResponse(String token, String refreshToken, UserResponse user) {
         this.token = token;
         this.type = "Bearer";
+        this.refreshToken = refreshToken;
         this.user = user;
     }
 }
@@ -0,0 +1,20 @@
+package com.susa.circle.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Whether an email or phone number can still be registered. A field is null
+ * when it was not asked about.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityResponse {
+
+    private Boolean emailAvailable;
+    private Boolean phoneNumberAvailable;
+}
@@ -0,0 +1,19 @@
+package com.susa.circle.dto.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactBatchItemResult {
+
+    private int index;
+    private boolean success;
+    private ContactResponse contact;
+    private Map<String, String> errors;
+}
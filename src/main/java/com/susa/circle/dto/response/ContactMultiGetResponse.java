@@ -0,0 +1,17 @@
+package com.susa.circle.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactMultiGetResponse {
+
+    private List<ContactResponse> contacts;
+    private List<Long> missingIds;
+}
@@ -17,6 +17,7 @@ public class ContactResponse {
     private String firstName;
     private String lastName;
     private String title;
+    private Long version;
     private List<EmailResponse> emails;
     private List<PhoneResponse> phones;
     private LocalDateTime createdAt;
@@ -0,0 +1,22 @@
+package com.susa.circle.dto.response;
+
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactStatsResponse {
+
+    private long totalContacts;
+    private long contactsWithoutEmail;
+    private long contactsWithoutPhone;
+    private Map<EmailType, Long> emailsByType;
+    private Map<PhoneType, Long> phonesByType;
+}
@@ -0,0 +1,21 @@
+package com.susa.circle.dto.response;
+
+import com.susa.circle.enums.PhoneType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhoneLookupMatch {
+
+    private Long contactId;
+    private String firstName;
+    private String lastName;
+    private Long phoneId;
+    private String phoneNumber;
+    private PhoneType type;
+}
@@ -0,0 +1,18 @@
+package com.susa.circle.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhoneLookupResponse {
+
+    private String number;
+    private String normalizedNumber;
+    private List<PhoneLookupMatch> matches;
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
@@ -20,7 +21,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Contact {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "contacts_seq"
+    )
+    @SequenceGenerator(
+        name = "contacts_seq",
+        sequenceName = "contacts_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -32,6 +41,11 @@ public class Contact {
     @Column(length = 100)
     private String title;
 
+    // Child changes move it explicitly, see ContactService.updateContact
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -41,6 +55,7 @@ public class Contact {
         cascade = CascadeType.ALL,
         orphanRemoval = true
     )
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private List<ContactEmail> emails = new ArrayList<>();
 
@@ -49,6 +64,7 @@ public class Contact {
         cascade = CascadeType.ALL,
         orphanRemoval = true
     )
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private List<ContactPhone> phones = new ArrayList<>();
 
@@ -16,7 +16,15 @@ import lombok.NoArgsConstructor;
 public class ContactEmail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "contact_emails_seq"
+    )
+    @SequenceGenerator(
+        name = "contact_emails_seq",
+        sequenceName = "contact_emails_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -1,6 +1,7 @@
 package com.susa.circle.entity;
 
 import com.susa.circle.enums.PhoneType;
+import com.susa.circle.util.PhoneNumbers;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,12 +17,25 @@ import lombok.NoArgsConstructor;
 public class ContactPhone {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "contact_phones_seq"
+    )
+    @SequenceGenerator(
+        name = "contact_phones_seq",
+        sequenceName = "contact_phones_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, length = 20)
     private String phoneNumber;
 
+    // Last digits of phoneNumber (PhoneNumbers.matchKey), indexed for
+    // caller-ID lookups
+    @Column(name = "normalized_number", nullable = false, length = 20)
+    private String normalizedNumber;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private PhoneType type;
@@ -29,4 +43,10 @@ public class ContactPhone {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contact_id", nullable = false)
     private Contact contact;
+
+    @PrePersist
+    @PreUpdate
+    void normalizePhoneNumber() {
+        normalizedNumber = PhoneNumbers.matchKey(phoneNumber);
+    }
 }
@@ -0,0 +1,59 @@
+package com.susa.circle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user contact counters, kept up to date by the contact write paths so
+ * that reads never have to aggregate over the contacts table.
+ */
+@Entity
+@Table(name = "contact_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_contacts", nullable = false)
+    private Long totalContacts;
+
+    @Column(name = "contacts_without_email", nullable = false)
+    private Long contactsWithoutEmail;
+
+    @Column(name = "contacts_without_phone", nullable = false)
+    private Long contactsWithoutPhone;
+
+    @Column(name = "work_emails", nullable = false)
+    private Long workEmails;
+
+    @Column(name = "personal_emails", nullable = false)
+    private Long personalEmails;
+
+    @Column(name = "other_emails", nullable = false)
+    private Long otherEmails;
+
+    @Column(name = "work_phones", nullable = false)
+    private Long workPhones;
+
+    @Column(name = "home_phones", nullable = false)
+    private Long homePhones;
+
+    @Column(name = "personal_phones", nullable = false)
+    private Long personalPhones;
+
+    @Column(name = "other_phones", nullable = false)
+    private Long otherPhones;
+
+    // Bumped by every contact write; validators for contact reads use it
+    @Column(name = "change_version", nullable = false)
+    @Builder.Default
+    private Long changeVersion = 1L;
+}
@@ -26,7 +26,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(
+        name = "users_seq",
+        sequenceName = "users_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -48,6 +53,11 @@ public class User {
     @Builder.Default
     private Boolean active = true;
 
+    // Bumped whenever issued tokens must stop working
+    @Column(name = "credential_version", nullable = false)
+    @Builder.Default
+    private Integer credentialVersion = 0;
+
     @OneToMany(
         mappedBy = "user",
         cascade = CascadeType.ALL,
@@ -0,0 +1,76 @@
+package com.susa.circle.enums;
+
+import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.exception.BadRequestException;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Sort keys that can be used for keyset paging. Each one is non-null, so the
+ * (value, id) tuple is a total order that a (user_id, column, id) index can
+ * seek into without scanning the rows before the cursor.
+ */
+public enum ContactSortField {
+    FIRST_NAME(
+        "firstName",
+        "first_name",
+        ContactResponse::getFirstName,
+        value -> value
+    ),
+    LAST_NAME(
+        "lastName",
+        "last_name",
+        ContactResponse::getLastName,
+        value -> value
+    ),
+    CREATED_AT(
+        "createdAt",
+        "created_at",
+        ContactResponse::getCreatedAt,
+        LocalDateTime::parse
+    );
+
+    private final String property;
+    private final String column;
+    private final Function<ContactResponse, Object> extractor;
+    private final Function<String, Object> parser;
+
+    ContactSortField(
+        String property,
+        String column,
+        Function<ContactResponse, Object> extractor,
+        Function<String, Object> parser
+    ) {
+        this.property = property;
+        this.column = column;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String extract(ContactResponse contact) {
+        return String.valueOf(extractor.apply(contact));
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static ContactSortField fromProperty(String property) {
+        for (ContactSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new BadRequestException(
+            "Unsupported sort field for cursor paging: " + property
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package com.susa.circle.enums;
+
+public enum SearchMode {
+    NAME,
+    FULLTEXT,
+}
@@ -0,0 +1,25 @@
+package com.susa.circle.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by contact writes. A null contactIds list means the change may
+ * touch any of the user's contacts, for example a bulk update by query.
+ */
+@Getter
+@AllArgsConstructor
+public class ContactsChangedEvent {
+
+    private final Long userId;
+    private final List<Long> contactIds;
+
+    public static ContactsChangedEvent of(Long userId, List<Long> contactIds) {
+        return new ContactsChangedEvent(userId, contactIds);
+    }
+
+    public static ContactsChangedEvent allOf(Long userId) {
+        return new ContactsChangedEvent(userId, null);
+    }
+}
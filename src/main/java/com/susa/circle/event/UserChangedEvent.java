@@ -0,0 +1,27 @@
+package com.susa.circle.event;
+
+import com.susa.circle.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a user row changes in a way that cached principals and
+ * credential versions must not outlive, such as a registration, a password
+ * change or a deactivation. Listeners act once the transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final String email;
+    private final String phoneNumber;
+
+    public static UserChangedEvent of(User user) {
+        return new UserChangedEvent(
+            user.getId(),
+            user.getEmail(),
+            user.getPhoneNumber()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.susa.circle.exception;
+
+import lombok.Getter;
+
+/**
+ * A write based on a stale version. Carries the current state, so the
+ * client can show it instead of fetching it again.
+ */
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final transient Object current;
+
+    public ConflictException(String message, Object current) {
+        super(message);
+        this.current = current;
+    }
+}
@@ -12,13 +12,26 @@ import java.util.stream.Collectors;
 public class ContactMapper {
 
     public static ContactResponse toResponse(Contact contact) {
+        return toResponse(contact, contact.getEmails(), contact.getPhones());
+    }
+
+    /**
+     * Maps a contact whose children were loaded separately, leaving its own
+     * lazy collections untouched.
+     */
+    public static ContactResponse toResponse(
+        Contact contact,
+        List<ContactEmail> emails,
+        List<ContactPhone> phones
+    ) {
         return ContactResponse.builder()
             .id(contact.getId())
             .firstName(contact.getFirstName())
             .lastName(contact.getLastName())
             .title(contact.getTitle())
-            .emails(toEmailResponses(contact.getEmails()))
-            .phones(toPhoneResponses(contact.getPhones()))
+            .version(contact.getVersion())
+            .emails(toEmailResponses(emails))
+            .phones(toPhoneResponses(phones))
             .createdAt(contact.getCreatedAt())
             .updatedAt(contact.getUpdatedAt())
             .build();
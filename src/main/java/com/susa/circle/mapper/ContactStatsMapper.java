@@ -0,0 +1,32 @@
+package com.susa.circle.mapper;
+
+import com.susa.circle.dto.response.ContactStatsResponse;
+import com.susa.circle.entity.ContactStats;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class ContactStatsMapper {
+
+    public static ContactStatsResponse toResponse(ContactStats stats) {
+        Map<EmailType, Long> emailsByType = new EnumMap<>(EmailType.class);
+        emailsByType.put(EmailType.WORK, stats.getWorkEmails());
+        emailsByType.put(EmailType.PERSONAL, stats.getPersonalEmails());
+        emailsByType.put(EmailType.OTHER, stats.getOtherEmails());
+
+        Map<PhoneType, Long> phonesByType = new EnumMap<>(PhoneType.class);
+        phonesByType.put(PhoneType.WORK, stats.getWorkPhones());
+        phonesByType.put(PhoneType.HOME, stats.getHomePhones());
+        phonesByType.put(PhoneType.PERSONAL, stats.getPersonalPhones());
+        phonesByType.put(PhoneType.OTHER, stats.getOtherPhones());
+
+        return ContactStatsResponse.builder()
+            .totalContacts(stats.getTotalContacts())
+            .contactsWithoutEmail(stats.getContactsWithoutEmail())
+            .contactsWithoutPhone(stats.getContactsWithoutPhone())
+            .emailsByType(emailsByType)
+            .phonesByType(phonesByType)
+            .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.susa.circle.repository;
+
+import com.susa.circle.entity.ContactPhone;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContactPhoneRepository
+    extends JpaRepository<ContactPhone, Long> {
+    @Query(
+        "SELECT p FROM ContactPhone p JOIN FETCH p.contact c " +
+            "WHERE p.normalizedNumber IN :numbers AND c.user.id = :userId"
+    )
+    List<ContactPhone> findByUserIdAndNormalizedNumberIn(
+        @Param("userId") Long userId,
+        @Param("numbers") Collection<String> numbers
+    );
+}
@@ -1,15 +1,19 @@
 package com.susa.circle.repository;
 
 import com.susa.circle.entity.Contact;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ContactRepository extends JpaRepository<Contact, Long> {
+public interface ContactRepository
+    extends JpaRepository<Contact, Long>, ContactRepositoryCustom {
     Page<Contact> findByUserId(Long userId, Pageable pageable);
 
     @Query(
@@ -24,4 +28,55 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     );
 
     boolean existsByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    // Two-phase listing: page over ids only, then load the children for that
+    // page in bulk instead of one lazy load per row. Totals come from the
+    // per-user counters, so neither variant issues a COUNT query.
+    @Query("SELECT c.id FROM Contact c WHERE c.user.id = :userId")
+    List<Long> findIdsByUserId(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    @Query("SELECT c.id FROM Contact c WHERE c.user.id = :userId")
+    Slice<Long> findIdSliceByUserId(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    // Loads one contact with both child collections in a single round trip.
+    // Each row pairs the contact with one email and one phone, so the rows
+    // form the email x phone product and the caller de-duplicates by id.
+    @Query(
+        "SELECT c, e, p FROM Contact c " +
+            "LEFT JOIN c.emails e LEFT JOIN c.phones p " +
+            "WHERE c.id = :id AND c.user.id = :userId ORDER BY e.id, p.id"
+    )
+    List<Object[]> findWithChildrenByIdAndUserId(
+        @Param("id") Long id,
+        @Param("userId") Long userId
+    );
+
+    // Emails and phones are both bags, so they are fetched in two queries
+    // rather than one cartesian join; the second query fills in the phones
+    // of the instances already loaded by the first.
+    @Query(
+        "SELECT DISTINCT c FROM Contact c LEFT JOIN FETCH c.emails " +
+            "WHERE c.user.id = :userId AND c.id IN :ids"
+    )
+    List<Contact> findAllWithEmailsByUserIdAndIdIn(
+        @Param("userId") Long userId,
+        @Param("ids") Collection<Long> ids
+    );
+
+    @Query(
+        "SELECT DISTINCT c FROM Contact c LEFT JOIN FETCH c.phones " +
+            "WHERE c.user.id = :userId AND c.id IN :ids"
+    )
+    List<Contact> findAllWithPhonesByUserIdAndIdIn(
+        @Param("userId") Long userId,
+        @Param("ids") Collection<Long> ids
+    );
 }
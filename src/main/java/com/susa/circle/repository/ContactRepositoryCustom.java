@@ -0,0 +1,81 @@
+package com.susa.circle.repository;
+
+import com.susa.circle.entity.Contact;
+import com.susa.circle.util.ContactCursor;
+import com.susa.circle.util.ContactStatsDelta;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Contact queries whose SQL depends on the request, such as keyset paging
+ * where the seek predicate follows the chosen sort column.
+ */
+public interface ContactRepositoryCustom {
+    /**
+     * Returns up to {@code limit} contact ids of the user that sort after the
+     * cursor position, optionally restricted to names matching
+     * {@code search}.
+     */
+    List<Long> findIdsAfter(
+        Long userId,
+        String search,
+        ContactCursor cursor,
+        int limit
+    );
+
+    /**
+     * Returns a page of ids of the user's contacts whose names match
+     * {@code search}. The total is computed in the same statement with a
+     * window function rather than a separate COUNT query.
+     */
+    Page<Long> searchIds(Long userId, String search, Pageable pageable);
+
+    /**
+     * Same as {@link #searchIds} without any total, only whether a further
+     * slice exists.
+     */
+    Slice<Long> searchIdSlice(Long userId, String search, Pageable pageable);
+
+    /**
+     * Returns a page of ids of the user's contacts whose search document
+     * matches every term of {@code search}, most relevant first. Terms match
+     * by prefix against names, title, emails and phone numbers.
+     */
+    Page<Long> fullTextSearchIds(Long userId, String search, Pageable pageable);
+
+    /**
+     * Deletes the given contacts of the user, with their emails and phones,
+     * without loading them. Ids owned by other users are ignored. Returns
+     * what the deleted contacts contributed to the user's counters.
+     */
+    ContactStatsDelta deleteByIds(Long userId, Collection<Long> ids);
+
+    /**
+     * Same as {@link #deleteByIds} for every contact of the user whose name
+     * matches {@code search}, using the same matching as {@link #searchIds}.
+     */
+    ContactStatsDelta deleteMatching(Long userId, String search);
+
+    /**
+     * Sets the title of the given contacts of the user in one statement and
+     * returns the number of contacts changed.
+     */
+    int updateTitleByIds(Long userId, Collection<Long> ids, String title);
+
+    /**
+     * Same as {@link #updateTitleByIds} for every contact of the user whose
+     * name matches {@code search}.
+     */
+    int updateTitleMatching(Long userId, String search, String title);
+
+    /**
+     * Moves the version of the managed contact right away. Used when only its
+     * emails or phones changed, which leaves the contact row itself clean.
+     * Fails with an optimistic locking failure if another transaction moved
+     * the version first.
+     */
+    void incrementVersion(Contact contact);
+}
@@ -0,0 +1,410 @@
+package com.susa.circle.repository;
+
+import com.susa.circle.entity.Contact;
+import com.susa.circle.exception.BadRequestException;
+import com.susa.circle.util.ContactCursor;
+import com.susa.circle.util.ContactStatsDelta;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+public class ContactRepositoryCustomImpl implements ContactRepositoryCustom {
+
+    // Must match the expressions of the trigram indexes from V2 exactly.
+    // The search term is LIKE-escaped before binding, so it always matches
+    // as a literal substring, ignoring case and accents.
+    private static final String NAME_MATCHES =
+        "(search_normalize(c.first_name) LIKE '%' || search_normalize(:search) || '%'" +
+        " OR search_normalize(c.last_name) LIKE '%' || search_normalize(:search) || '%')";
+
+    // Offset paging keeps accepting every sortable scalar property
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "id",
+        "c.id",
+        "firstName",
+        "c.first_name",
+        "lastName",
+        "c.last_name",
+        "title",
+        "c.title",
+        "createdAt",
+        "c.created_at",
+        "updatedAt",
+        "c.updated_at"
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIdsAfter(
+        Long userId,
+        String search,
+        ContactCursor cursor,
+        int limit
+    ) {
+        String column = "c." + cursor.getSortField().getColumn();
+        String direction = cursor.isDescending() ? "DESC" : "ASC";
+
+        StringBuilder sql = new StringBuilder(
+            "SELECT c.id FROM contacts c WHERE c.user_id = :userId"
+        );
+        if (search != null) {
+            sql.append(" AND ").append(NAME_MATCHES);
+        }
+        if (!cursor.isFirst()) {
+            // Row-value comparison lets PostgreSQL seek straight into the
+            // (user_id, column, id) index instead of skipping OFFSET rows
+            sql
+                .append(" AND (")
+                .append(column)
+                .append(", c.id) ")
+                .append(cursor.isDescending() ? "<" : ">")
+                .append(" (:value, :id)");
+        }
+        sql
+            .append(" ORDER BY ")
+            .append(column)
+            .append(' ')
+            .append(direction)
+            .append(", c.id ")
+            .append(direction);
+
+        Query query = entityManager
+            .createNativeQuery(sql.toString())
+            .setParameter("userId", userId)
+            .setMaxResults(limit);
+        if (search != null) {
+            query.setParameter("search", escapeLike(search));
+        }
+        if (!cursor.isFirst()) {
+            query
+                .setParameter("value", cursor.getValue())
+                .setParameter("id", cursor.getId());
+        }
+
+        return toIds(query.getResultList());
+    }
+
+    @Override
+    public Page<Long> searchIds(Long userId, String search, Pageable pageable) {
+        String sql =
+            "SELECT c.id, COUNT(*) OVER () FROM contacts c " +
+            "WHERE c.user_id = :userId AND " +
+            NAME_MATCHES +
+            orderBy(pageable.getSort());
+
+        List<?> rows = entityManager
+            .createNativeQuery(sql)
+            .setParameter("userId", userId)
+            .setParameter("search", escapeLike(search))
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+
+        if (rows.isEmpty()) {
+            // Past the last page there is no row to carry the window total
+            return new PageImpl<>(
+                List.of(),
+                pageable,
+                pageable.getOffset() == 0 ? 0 : countMatches(userId, search)
+            );
+        }
+
+        return toIdPage(rows, pageable);
+    }
+
+    @Override
+    public Slice<Long> searchIdSlice(
+        Long userId,
+        String search,
+        Pageable pageable
+    ) {
+        String sql =
+            "SELECT c.id FROM contacts c WHERE c.user_id = :userId AND " +
+            NAME_MATCHES +
+            orderBy(pageable.getSort());
+
+        List<Long> ids = toIds(
+            entityManager
+                .createNativeQuery(sql)
+                .setParameter("userId", userId)
+                .setParameter("search", escapeLike(search))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList()
+        );
+
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        return new SliceImpl<>(
+            hasNext ? ids.subList(0, pageable.getPageSize()) : ids,
+            pageable,
+            hasNext
+        );
+    }
+
+    @Override
+    public Page<Long> fullTextSearchIds(
+        Long userId,
+        String search,
+        Pageable pageable
+    ) {
+        String tsQuery = toPrefixTsQuery(search);
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        String sql =
+            "SELECT c.id, COUNT(*) OVER () " +
+            "FROM contacts c, to_tsquery('simple', search_normalize(:query)) q " +
+            "WHERE c.user_id = :userId AND c.search_document @@ q " +
+            "ORDER BY ts_rank_cd(c.search_document, q) DESC, c.id";
+
+        List<?> rows = entityManager
+            .createNativeQuery(sql)
+            .setParameter("userId", userId)
+            .setParameter("query", tsQuery)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+
+        if (rows.isEmpty()) {
+            return new PageImpl<>(
+                List.of(),
+                pageable,
+                pageable.getOffset() == 0
+                    ? 0
+                    : countFullTextMatches(userId, tsQuery)
+            );
+        }
+
+        return toIdPage(rows, pageable);
+    }
+
+    @Override
+    public ContactStatsDelta deleteByIds(Long userId, Collection<Long> ids) {
+        return delete(userId, "c.id IN (:ids)", query ->
+            query.setParameter("ids", ids)
+        );
+    }
+
+    @Override
+    public ContactStatsDelta deleteMatching(Long userId, String search) {
+        return delete(userId, NAME_MATCHES, query ->
+            query.setParameter("search", escapeLike(search))
+        );
+    }
+
+    @Override
+    public int updateTitleByIds(
+        Long userId,
+        Collection<Long> ids,
+        String title
+    ) {
+        return updateTitle(userId, title, "c.id IN (:ids)", query ->
+            query.setParameter("ids", ids)
+        );
+    }
+
+    @Override
+    public int updateTitleMatching(Long userId, String search, String title) {
+        return updateTitle(userId, title, NAME_MATCHES, query ->
+            query.setParameter("search", escapeLike(search))
+        );
+    }
+
+    @Override
+    public void incrementVersion(Contact contact) {
+        // OPTIMISTIC_FORCE_INCREMENT would only move the version at commit,
+        // after the caller has already returned the old one. This sends the
+        // versioned UPDATE now, which locks the row just as a flush would.
+        entityManager.lock(contact, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+
+    /**
+     * Deletes the selected contacts and their children in one statement and
+     * returns what they contributed to the counters. The data-modifying CTEs
+     * all run against the same snapshot, and the foreign keys are checked at
+     * the end of the statement, so the children can go in the same pass.
+     */
+    private ContactStatsDelta delete(
+        Long userId,
+        String selection,
+        Consumer<Query> binder
+    ) {
+        String sql =
+            "WITH target AS (SELECT c.id FROM contacts c " +
+            "WHERE c.user_id = :userId AND " +
+            selection +
+            " FOR UPDATE), " +
+            "deleted_emails AS (DELETE FROM contact_emails ce USING target t " +
+            "WHERE ce.contact_id = t.id RETURNING ce.contact_id, ce.type), " +
+            "deleted_phones AS (DELETE FROM contact_phones cp USING target t " +
+            "WHERE cp.contact_id = t.id RETURNING cp.contact_id, cp.type), " +
+            "deleted AS (DELETE FROM contacts c USING target t " +
+            "WHERE c.id = t.id RETURNING c.id) " +
+            "SELECT (SELECT COUNT(*) FROM deleted), " +
+            "(SELECT COUNT(*) FROM deleted d WHERE NOT EXISTS " +
+            "(SELECT 1 FROM deleted_emails e WHERE e.contact_id = d.id)), " +
+            "(SELECT COUNT(*) FROM deleted d WHERE NOT EXISTS " +
+            "(SELECT 1 FROM deleted_phones p WHERE p.contact_id = d.id)), " +
+            "(SELECT COUNT(*) FROM deleted_emails WHERE type = 'WORK'), " +
+            "(SELECT COUNT(*) FROM deleted_emails WHERE type = 'PERSONAL'), " +
+            "(SELECT COUNT(*) FROM deleted_emails WHERE type = 'OTHER'), " +
+            "(SELECT COUNT(*) FROM deleted_phones WHERE type = 'WORK'), " +
+            "(SELECT COUNT(*) FROM deleted_phones WHERE type = 'HOME'), " +
+            "(SELECT COUNT(*) FROM deleted_phones WHERE type = 'PERSONAL'), " +
+            "(SELECT COUNT(*) FROM deleted_phones WHERE type = 'OTHER')";
+
+        // Loaded entities would otherwise outlive their rows
+        entityManager.flush();
+        Query query = entityManager
+            .createNativeQuery(sql)
+            .setParameter("userId", userId);
+        binder.accept(query);
+        Object[] row = (Object[]) query.getSingleResult();
+        entityManager.clear();
+
+        return new ContactStatsDelta(
+            count(row[0]),
+            count(row[1]),
+            count(row[2]),
+            count(row[3]),
+            count(row[4]),
+            count(row[5]),
+            count(row[6]),
+            count(row[7]),
+            count(row[8]),
+            count(row[9])
+        );
+    }
+
+    private int updateTitle(
+        Long userId,
+        String title,
+        String selection,
+        Consumer<Query> binder
+    ) {
+        String sql =
+            "UPDATE contacts c SET title = :title, " +
+            "updated_at = LOCALTIMESTAMP, version = version + 1 " +
+            "WHERE c.user_id = :userId AND " +
+            selection;
+
+        entityManager.flush();
+        Query query = entityManager
+            .createNativeQuery(sql)
+            .setParameter("userId", userId)
+            .setParameter("title", title);
+        binder.accept(query);
+        int updated = query.executeUpdate();
+        entityManager.clear();
+
+        return updated;
+    }
+
+    private long countFullTextMatches(Long userId, String tsQuery) {
+        return (
+            (Number) entityManager
+                .createNativeQuery(
+                    "SELECT COUNT(*) FROM contacts c " +
+                        "WHERE c.user_id = :userId AND c.search_document @@ " +
+                        "to_tsquery('simple', search_normalize(:query))"
+                )
+                .setParameter("userId", userId)
+                .setParameter("query", tsQuery)
+                .getSingleResult()
+        ).longValue();
+    }
+
+    private long countMatches(Long userId, String search) {
+        return (
+            (Number) entityManager
+                .createNativeQuery(
+                    "SELECT COUNT(*) FROM contacts c WHERE c.user_id = :userId AND " +
+                        NAME_MATCHES
+                )
+                .setParameter("userId", userId)
+                .setParameter("search", escapeLike(search))
+                .getSingleResult()
+        ).longValue();
+    }
+
+    private static String orderBy(Sort sort) {
+        StringBuilder sql = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new BadRequestException(
+                    "Unsupported sort field: " + order.getProperty()
+                );
+            }
+            sql
+                .append(column)
+                .append(order.isDescending() ? " DESC" : " ASC")
+                .append(", ");
+        }
+        // The id tie-breaker keeps offset pages stable across requests
+        return sql.append("c.id").toString();
+    }
+
+    /**
+     * Turns free text into an AND of prefix terms, e.g. "jane acme" becomes
+     * 'jane':* & 'acme':*. Characters that carry tsquery syntax are dropped,
+     * and phone-like terms are reduced to their digits to match the phone
+     * lexemes of the search document.
+     */
+    private static String toPrefixTsQuery(String search) {
+        StringJoiner query = new StringJoiner(" & ");
+        for (String term : search.trim().split("\\s+")) {
+            String cleaned = term.replaceAll("[^\\p{L}\\p{N}@._+-]", "");
+            if (cleaned.matches("[+\\d().-]+")) {
+                cleaned = cleaned.replaceAll("\\D", "");
+            }
+            if (cleaned.chars().anyMatch(Character::isLetterOrDigit)) {
+                query.add("'" + cleaned + "':*");
+            }
+        }
+        return query.toString();
+    }
+
+    private static Page<Long> toIdPage(List<?> rows, Pageable pageable) {
+        List<Long> ids = rows
+            .stream()
+            .map(row -> ((Number) ((Object[]) row)[0]).longValue())
+            .toList();
+        long total = ((Number) ((Object[]) rows.get(0))[1]).longValue();
+
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private static String escapeLike(String search) {
+        return search
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
+    private static long count(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static List<Long> toIds(List<?> rows) {
+        return rows
+            .stream()
+            .map(id -> ((Number) id).longValue())
+            .toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.susa.circle.repository;
+
+import com.susa.circle.entity.ContactStats;
+import com.susa.circle.util.ContactStatsDelta;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContactStatsRepository
+    extends JpaRepository<ContactStats, Long> {
+    String STATS_COLUMNS =
+        "user_id, total_contacts, contacts_without_email, contacts_without_phone, " +
+        "work_emails, personal_emails, other_emails, " +
+        "work_phones, home_phones, personal_phones, other_phones";
+
+    // Recomputes every counter for one user from the contact tables. Each
+    // aggregate returns exactly one row, even for a user without contacts.
+    String COMPUTE_STATS =
+        "SELECT :userId, c.total, c.without_email, c.without_phone, " +
+        "e.work, e.personal, e.other, p.work, p.home, p.personal, p.other " +
+        "FROM (SELECT COUNT(*) AS total, " +
+        "COUNT(*) FILTER (WHERE NOT EXISTS " +
+        "(SELECT 1 FROM contact_emails ce WHERE ce.contact_id = c.id)) AS without_email, " +
+        "COUNT(*) FILTER (WHERE NOT EXISTS " +
+        "(SELECT 1 FROM contact_phones cp WHERE cp.contact_id = c.id)) AS without_phone " +
+        "FROM contacts c WHERE c.user_id = :userId) c " +
+        "CROSS JOIN (SELECT COUNT(*) FILTER (WHERE ce.type = 'WORK') AS work, " +
+        "COUNT(*) FILTER (WHERE ce.type = 'PERSONAL') AS personal, " +
+        "COUNT(*) FILTER (WHERE ce.type = 'OTHER') AS other " +
+        "FROM contact_emails ce JOIN contacts c ON c.id = ce.contact_id " +
+        "WHERE c.user_id = :userId) e " +
+        "CROSS JOIN (SELECT COUNT(*) FILTER (WHERE cp.type = 'WORK') AS work, " +
+        "COUNT(*) FILTER (WHERE cp.type = 'HOME') AS home, " +
+        "COUNT(*) FILTER (WHERE cp.type = 'PERSONAL') AS personal, " +
+        "COUNT(*) FILTER (WHERE cp.type = 'OTHER') AS other " +
+        "FROM contact_phones cp JOIN contacts c ON c.id = cp.contact_id " +
+        "WHERE c.user_id = :userId) p";
+
+    // Every contact write goes through here, so it also moves the version
+    @Modifying
+    @Query(
+        "UPDATE ContactStats s SET " +
+            "s.changeVersion = s.changeVersion + 1, " +
+            "s.totalContacts = s.totalContacts + :#{#delta.totalContacts}, " +
+            "s.contactsWithoutEmail = s.contactsWithoutEmail + :#{#delta.contactsWithoutEmail}, " +
+            "s.contactsWithoutPhone = s.contactsWithoutPhone + :#{#delta.contactsWithoutPhone}, " +
+            "s.workEmails = s.workEmails + :#{#delta.workEmails}, " +
+            "s.personalEmails = s.personalEmails + :#{#delta.personalEmails}, " +
+            "s.otherEmails = s.otherEmails + :#{#delta.otherEmails}, " +
+            "s.workPhones = s.workPhones + :#{#delta.workPhones}, " +
+            "s.homePhones = s.homePhones + :#{#delta.homePhones}, " +
+            "s.personalPhones = s.personalPhones + :#{#delta.personalPhones}, " +
+            "s.otherPhones = s.otherPhones + :#{#delta.otherPhones} " +
+            "WHERE s.userId = :userId"
+    )
+    int applyDelta(
+        @Param("userId") Long userId,
+        @Param("delta") ContactStatsDelta delta
+    );
+
+    @Query(
+        "SELECT s.changeVersion FROM ContactStats s WHERE s.userId = :userId"
+    )
+    Optional<Long> findChangeVersion(@Param("userId") Long userId);
+
+    // Matches only if the version is still the expected one and locks the
+    // row until the transaction ends, so no other write can slip in between
+    @Modifying
+    @Query(
+        "UPDATE ContactStats s SET s.changeVersion = s.changeVersion " +
+            "WHERE s.userId = :userId AND s.changeVersion = :expected"
+    )
+    int claimChangeVersion(
+        @Param("userId") Long userId,
+        @Param("expected") long expected
+    );
+
+    // Counts the rows as they are after the current write, so a user whose
+    // counters did not exist yet starts from the correct values
+    @Modifying
+    @Query(
+        value = "INSERT INTO contact_stats (" +
+            STATS_COLUMNS +
+            ") " +
+            COMPUTE_STATS +
+            " ON CONFLICT (user_id) DO NOTHING",
+        nativeQuery = true
+    )
+    int seed(@Param("userId") Long userId);
+
+    // Corrected counters change what the user sees, so they move the
+    // version; a row without drift keeps it and cached responses stay valid
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = "INSERT INTO contact_stats (" +
+            STATS_COLUMNS +
+            ") " +
+            COMPUTE_STATS +
+            " ON CONFLICT (user_id) DO UPDATE SET " +
+            "change_version = CASE WHEN (" +
+            "contact_stats.total_contacts, contact_stats.contacts_without_email, " +
+            "contact_stats.contacts_without_phone, contact_stats.work_emails, " +
+            "contact_stats.personal_emails, contact_stats.other_emails, " +
+            "contact_stats.work_phones, contact_stats.home_phones, " +
+            "contact_stats.personal_phones, contact_stats.other_phones" +
+            ") IS DISTINCT FROM (" +
+            "EXCLUDED.total_contacts, EXCLUDED.contacts_without_email, " +
+            "EXCLUDED.contacts_without_phone, EXCLUDED.work_emails, " +
+            "EXCLUDED.personal_emails, EXCLUDED.other_emails, " +
+            "EXCLUDED.work_phones, EXCLUDED.home_phones, " +
+            "EXCLUDED.personal_phones, EXCLUDED.other_phones" +
+            ") THEN contact_stats.change_version + 1 " +
+            "ELSE contact_stats.change_version END, " +
+            "total_contacts = EXCLUDED.total_contacts, " +
+            "contacts_without_email = EXCLUDED.contacts_without_email, " +
+            "contacts_without_phone = EXCLUDED.contacts_without_phone, " +
+            "work_emails = EXCLUDED.work_emails, " +
+            "personal_emails = EXCLUDED.personal_emails, " +
+            "other_emails = EXCLUDED.other_emails, " +
+            "work_phones = EXCLUDED.work_phones, " +
+            "home_phones = EXCLUDED.home_phones, " +
+            "personal_phones = EXCLUDED.personal_phones, " +
+            "other_phones = EXCLUDED.other_phones",
+        nativeQuery = true
+    )
+    int rebuild(@Param("userId") Long userId);
+}
@@ -0,0 +1,54 @@
+package com.susa.circle.repository;
+
+import com.susa.circle.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository
+    extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Returns 0 when a concurrent request already used the token
+    @Modifying
+    @Query(
+        "UPDATE RefreshToken t SET t.used = true " +
+            "WHERE t.id = :id AND t.used = false"
+    )
+    int markUsed(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") UUID familyId);
+
+    // Keeps the token just used, so replaying it is still caught
+    @Modifying
+    @Query(
+        "DELETE FROM RefreshToken t " +
+            "WHERE t.familyId = :familyId AND t.used = true AND t.id <> :keepId"
+    )
+    int deleteUsedInFamily(
+        @Param("familyId") UUID familyId,
+        @Param("keepId") Long keepId
+    );
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(
+        "DELETE FROM RefreshToken t " +
+            "WHERE t.userId = :userId AND t.expiresAt < :now"
+    )
+    int deleteExpired(
+        @Param("userId") Long userId,
+        @Param("now") LocalDateTime now
+    );
+}
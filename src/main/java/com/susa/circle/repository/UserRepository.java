@@ -1,8 +1,12 @@
 package com.susa.circle.repository;
 
 import com.susa.circle.entity.User;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +18,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByPhoneNumber(String phoneNumber);
+
+    // Empty for deactivated users, so their tokens fail the version check
+    @Query(
+        "SELECT u.credentialVersion FROM User u " +
+            "WHERE u.id = :id AND u.active = true"
+    )
+    Optional<Integer> findActiveCredentialVersion(@Param("id") Long id);
+
+    // Keyset pages of everyone's login names, for the username filter
+    @Query(
+        "SELECT u.id AS id, u.email AS email, u.phoneNumber AS phoneNumber " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id"
+    )
+    List<Usernames> findUsernamesAfter(
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    interface Usernames {
+        Long getId();
+
+        String getEmail();
+
+        String getPhoneNumber();
+    }
 }
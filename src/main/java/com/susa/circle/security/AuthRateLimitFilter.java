@@ -0,0 +1,307 @@
+package com.susa.circle.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.susa.circle.dto.response.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits login and registration attempts per client IP and per username
+ * before the request reaches any password hashing or database work.
+ * Username availability checks get a bucket per client IP of their own, so
+ * they cannot be used to list registered names either.
+ *
+ * The username comes from the JSON body (username for logins, email and
+ * phoneNumber for registrations), so the body is buffered and replayed to
+ * the controller. Requests over either limit get 429 with Retry-After.
+ *
+ * The client IP is the request's remote address. Behind the load balancer
+ * that is the client from X-Forwarded-For, which the server resolves for
+ * trusted proxies only (server.forward-headers-strategy).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String REGISTER_PATH = "/api/auth/register";
+    private static final Set<String> LIMITED_PATHS = Set.of(
+        LOGIN_PATH,
+        REGISTER_PATH
+    );
+    private static final String AVAILABILITY_PATH = "/api/auth/availability";
+
+    // Auth bodies are a few hundred bytes; larger ones are rejected
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${auth.rate-limit.ip.refill-per-minute:20}")
+    private int ipRefillPerMinute;
+
+    @Value("${auth.rate-limit.username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${auth.rate-limit.username.refill-per-minute:5}")
+    private int usernameRefillPerMinute;
+
+    @Value("${auth.rate-limit.availability.capacity:30}")
+    private int availabilityCapacity;
+
+    @Value("${auth.rate-limit.availability.refill-per-minute:30}")
+    private int availabilityRefillPerMinute;
+
+    @Value("${auth.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${auth.rate-limit.stripes:64}")
+    private int stripes;
+
+    private TokenBucketLimiter ipLimiter;
+    private TokenBucketLimiter usernameLimiter;
+    private TokenBucketLimiter availabilityLimiter;
+
+    @PostConstruct
+    void init() {
+        ipLimiter = new TokenBucketLimiter(
+            ipCapacity,
+            ipRefillPerMinute,
+            maxKeys,
+            stripes
+        );
+        usernameLimiter = new TokenBucketLimiter(
+            usernameCapacity,
+            usernameRefillPerMinute,
+            maxKeys,
+            stripes
+        );
+        availabilityLimiter = new TokenBucketLimiter(
+            availabilityCapacity,
+            availabilityRefillPerMinute,
+            maxKeys,
+            stripes
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getServletPath();
+        if ("GET".equals(request.getMethod())) {
+            return !AVAILABILITY_PATH.equals(path);
+        }
+        return (
+            !"POST".equals(request.getMethod()) ||
+            !LIMITED_PATHS.contains(path)
+        );
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @Nonnull HttpServletRequest request,
+        @Nonnull HttpServletResponse response,
+        @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (AVAILABILITY_PATH.equals(request.getServletPath())) {
+            long retryAfterMillis = availabilityLimiter.tryAcquire(
+                request.getRemoteAddr()
+            );
+            if (retryAfterMillis > 0) {
+                reject(request, response, "availability", retryAfterMillis);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterMillis = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (retryAfterMillis > 0) {
+            reject(request, response, "ip", retryAfterMillis);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            writeError(
+                response,
+                HttpStatus.CONTENT_TOO_LARGE,
+                "Request body too large"
+            );
+            return;
+        }
+        for (String username : usernames(request.getServletPath(), body)) {
+            retryAfterMillis = usernameLimiter.tryAcquire(username);
+            if (retryAfterMillis > 0) {
+                reject(request, response, "username", retryAfterMillis);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private List<String> usernames(String path, byte[] body) {
+        List<String> usernames = new ArrayList<>(2);
+        if (body.length == 0) {
+            return usernames;
+        }
+        JsonNode json;
+        try {
+            json = MAPPER.readTree(body);
+        } catch (IOException e) {
+            // Left to request validation
+            return usernames;
+        }
+        if (json == null || !json.isObject()) {
+            return usernames;
+        }
+        List<String> fields = LOGIN_PATH.equals(path)
+            ? List.of("username")
+            : List.of("email", "phoneNumber");
+        for (String field : fields) {
+            JsonNode value = json.get(field);
+            if (value != null && value.isTextual()) {
+                String username = value.asText().trim();
+                if (!username.isEmpty()) {
+                    usernames.add(username.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return usernames;
+    }
+
+    private void reject(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        String key,
+        long retryAfterMillis
+    ) throws IOException {
+        log.warn(
+            "Rate limited {} request from {} by {}",
+            request.getServletPath(),
+            request.getRemoteAddr(),
+            key
+        );
+        meterRegistry
+            .counter("auth.rate-limit.rejected", "key", key)
+            .increment();
+
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setHeader(
+            HttpHeaders.RETRY_AFTER,
+            String.valueOf(retryAfterSeconds)
+        );
+        writeError(
+            response,
+            HttpStatus.TOO_MANY_REQUESTS,
+            "Too many attempts, please try again later"
+        );
+    }
+
+    private static void writeError(
+        HttpServletResponse response,
+        HttpStatus status,
+        String message
+    ) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        MAPPER.writeValue(
+            response.getOutputStream(),
+            ApiResponse.error(message)
+        );
+    }
+
+    private static final class CachedBodyRequest
+        extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream buffered = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return buffered.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return buffered.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return buffered.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is in memory, so it is all available now
+                    try {
+                        listener.onDataAvailable();
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(
+                new InputStreamReader(getInputStream(), StandardCharsets.UTF_8)
+            );
+        }
+    }
+}
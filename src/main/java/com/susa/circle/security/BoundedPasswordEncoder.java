@@ -0,0 +1,152 @@
+package com.susa.circle.security;
+
+import com.susa.circle.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs password hashing on a fixed pool of threads with a bounded queue, so
+ * a burst of logins cannot keep every request thread busy with BCrypt work.
+ * A call that finds the queue full, or that waits longer than the timeout,
+ * fails at once with a 503 instead of piling up behind the others.
+ *
+ * Metrics: auth.password.hash (time spent hashing, by operation),
+ * auth.password.hash.wait (time queued), auth.password.hash.rejected, and
+ * the executor.* meters of the passwordHashing executor, which include the
+ * queue depth.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String BUSY_MESSAGE =
+        "Authentication is busy, please try again shortly";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        int threads,
+        int queueCapacity,
+        long timeoutMillis,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        new ExecutorServiceMetrics(
+            executor,
+            "passwordHashing",
+            Tags.empty()
+        ).bindTo(meterRegistry);
+
+        this.encodeTimer = meterRegistry.timer(
+            "auth.password.hash",
+            "operation",
+            "encode"
+        );
+        this.matchesTimer = meterRegistry.timer(
+            "auth.password.hash",
+            "operation",
+            "matches"
+        );
+        this.waitTimer = meterRegistry.timer("auth.password.hash.wait");
+        this.queueFull = meterRegistry.counter(
+            "auth.password.hash.rejected",
+            "reason",
+            "queue-full"
+        );
+        this.timedOut = meterRegistry.counter(
+            "auth.password.hash.rejected",
+            "reason",
+            "timeout"
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () ->
+            delegate.matches(rawPassword, encodedPassword)
+        );
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the hash prefix, so it stays on the caller's thread
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer timer, Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(
+                    System.nanoTime() - submittedAt,
+                    TimeUnit.NANOSECONDS
+                );
+                return timer.record(work);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            log.warn("Password hashing queue is full");
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("Password hashing timed out after {} ms", timeoutMillis);
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
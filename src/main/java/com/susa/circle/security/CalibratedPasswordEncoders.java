@@ -0,0 +1,226 @@
+package com.susa.circle.security;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Builds the password encoder with a work factor measured on the current
+ * hardware instead of a hardcoded one.
+ *
+ * New hashes use the configured algorithm at the calibrated cost and carry
+ * an {id} prefix. Hashes of either algorithm and at any cost still verify,
+ * including the unprefixed BCrypt hashes stored before this encoder. Hashes
+ * of the other algorithm or at a lower cost report upgradeEncoding, so they
+ * are rewritten at the next successful login. A higher cost is kept: nodes
+ * calibrate separately, and rehashing down on a slower node would only be
+ * undone by the next faster one.
+ */
+@Slf4j
+public final class CalibratedPasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    // OWASP floors; calibration never goes below them
+    static final int MIN_BCRYPT_STRENGTH = 10;
+    static final int MAX_BCRYPT_STRENGTH = 16;
+    static final int MIN_ARGON2_ITERATIONS = 2;
+    static final int MAX_ARGON2_ITERATIONS = 10;
+
+    private static final int ARGON2_MEMORY_KIB = 19 * 1024;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private CalibratedPasswordEncoders() {}
+
+    /**
+     * @param cost fixed BCrypt strength or Argon2 iteration count, or 0 to
+     *     calibrate against targetMillis
+     */
+    public static PasswordEncoder create(
+        String algorithm,
+        long targetMillis,
+        int cost
+    ) {
+        boolean argon2 = ARGON2.equalsIgnoreCase(algorithm);
+        if (!argon2 && !BCRYPT.equalsIgnoreCase(algorithm)) {
+            throw new IllegalArgumentException(
+                "Unsupported password hashing algorithm: " + algorithm
+            );
+        }
+
+        int bcryptStrength = !argon2 && cost > 0
+            ? cost
+            : argon2
+                ? MIN_BCRYPT_STRENGTH
+                : calibrateBCryptStrength(targetMillis);
+        int argon2Iterations = argon2 && cost > 0
+            ? cost
+            : argon2
+                ? calibrateArgon2Iterations(targetMillis)
+                : MIN_ARGON2_ITERATIONS;
+
+        PasswordEncoder bcrypt = new CalibratedBCrypt(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, new CalibratedArgon2(argon2Iterations));
+
+        log.info(
+            "Hashing passwords with {} (bcrypt strength {}, argon2 iterations {})",
+            argon2 ? ARGON2 : BCRYPT,
+            bcryptStrength,
+            argon2Iterations
+        );
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+            argon2 ? ARGON2 : BCRYPT,
+            encoders
+        );
+        // Hashes written before the {id} prefix are all BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Each BCrypt strength step doubles the work, so one measurement at the
+     * floor is enough to pick the highest strength within the target.
+     */
+    static int calibrateBCryptStrength(long targetMillis) {
+        BCryptPasswordEncoder floor = new BCryptPasswordEncoder(
+            MIN_BCRYPT_STRENGTH
+        );
+        double millis = medianMillis(() -> floor.encode(SAMPLE_PASSWORD));
+        int steps = (int) Math.floor(log2(targetMillis / millis));
+        return Math.clamp(
+            MIN_BCRYPT_STRENGTH + steps,
+            MIN_BCRYPT_STRENGTH,
+            MAX_BCRYPT_STRENGTH
+        );
+    }
+
+    /**
+     * Argon2 time grows linearly with the iteration count at fixed memory.
+     */
+    static int calibrateArgon2Iterations(long targetMillis) {
+        Argon2PasswordEncoder single = argon2(1);
+        double millis = medianMillis(() -> single.encode(SAMPLE_PASSWORD));
+        return Math.clamp(
+            (long) Math.floor(targetMillis / millis),
+            MIN_ARGON2_ITERATIONS,
+            MAX_ARGON2_ITERATIONS
+        );
+    }
+
+    private static double medianMillis(Supplier<String> hash) {
+        // The first run warms up the JIT and is not counted
+        hash.get();
+        double[] samples = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            hash.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return Math.max(samples[SAMPLES / 2], 0.001);
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private static Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(
+            16,
+            32,
+            ARGON2_PARALLELISM,
+            ARGON2_MEMORY_KIB,
+            iterations
+        );
+    }
+
+    private static final class CalibratedBCrypt extends BCryptPasswordEncoder {
+
+        private final int strength;
+
+        CalibratedBCrypt(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // $2a$10$... carries the strength in characters 4 and 5
+            if (encodedPassword == null || encodedPassword.length() < 7) {
+                return false;
+            }
+            try {
+                int stored = Integer.parseInt(encodedPassword.substring(4, 6));
+                return stored < strength;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class CalibratedArgon2 implements PasswordEncoder {
+
+        private static final String MEMORY = "m=" + ARGON2_MEMORY_KIB + ",t=";
+        private static final String PARALLELISM = ",p=" + ARGON2_PARALLELISM;
+
+        private final Argon2PasswordEncoder delegate;
+        private final int iterations;
+
+        CalibratedArgon2(int iterations) {
+            this.delegate = argon2(iterations);
+            this.iterations = iterations;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encoded) {
+            return delegate.matches(rawPassword, encoded);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // $argon2id$v=19$m=19456,t=2,p=1$salt$hash
+            if (encodedPassword == null) {
+                return false;
+            }
+            String[] parts = encodedPassword.split("\\$");
+            if (parts.length <= 3) {
+                return false;
+            }
+            String parameters = parts[3];
+            if (
+                !parameters.startsWith(MEMORY) ||
+                !parameters.endsWith(PARALLELISM)
+            ) {
+                return true;
+            }
+            try {
+                int stored = Integer.parseInt(
+                    parameters.substring(
+                        MEMORY.length(),
+                        parameters.length() - PARALLELISM.length()
+                    )
+                );
+                return stored < iterations;
+            } catch (NumberFormatException e) {
+                return true;
+            }
+        }
+    }
+}
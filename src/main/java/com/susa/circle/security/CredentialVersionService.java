@@ -0,0 +1,66 @@
+package com.susa.circle.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.susa.circle.cache.CacheInvalidationHandler;
+import com.susa.circle.event.UserChangedEvent;
+import com.susa.circle.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Checks the credential version carried by a token against the user's
+ * current one. Versions are cached for a few seconds, so an authenticated
+ * request usually costs no query. A revocation takes effect on this instance
+ * once its transaction commits, and on other instances when the invalidation
+ * bus delivers it. The expiry bounds staleness if the bus falls behind.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CredentialVersionService implements CacheInvalidationHandler {
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.credential-check.ttl:5000}")
+    private long ttlMillis;
+
+    @Value("${jwt.credential-check.max-entries:100000}")
+    private long maxEntries;
+
+    // Empty when the user is gone or deactivated
+    private Cache<Long, Optional<Integer>> versions;
+
+    @PostConstruct
+    void init() {
+        versions = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .build();
+    }
+
+    public boolean isCurrent(Long userId, int version) {
+        Optional<Integer> current = versions.get(
+            userId,
+            userRepository::findActiveCredentialVersion
+        );
+        return current.isPresent() && current.get() == version;
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.invalidate(event.getUserId());
+    }
+
+    @Override
+    public void invalidateAll() {
+        versions.invalidateAll();
+    }
+}
@@ -16,6 +16,16 @@ public class CustomUserDetails implements UserDetails {
     private String username;
     private String password;
     private Boolean active;
+    private Integer credentialVersion;
+
+    public CustomUserDetails(
+        Long id,
+        String username,
+        String password,
+        Boolean active
+    ) {
+        this(id, username, password, active, 0);
+    }
 
     public static CustomUserDetails build(User user) {
         String username =
@@ -25,7 +35,8 @@ public class CustomUserDetails implements UserDetails {
             user.getId(),
             username,
             user.getPassword(),
-            user.getActive()
+            user.getActive(),
+            user.getCredentialVersion()
         );
     }
 
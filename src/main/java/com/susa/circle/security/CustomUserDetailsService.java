@@ -1,26 +1,77 @@
 package com.susa.circle.security;
 
 import com.susa.circle.entity.User;
+import com.susa.circle.event.UserChangedEvent;
 import com.susa.circle.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService
+    implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
+    private final RegisteredUsernames registeredUsernames;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String username)
         throws UsernameNotFoundException {
+        return principalCache.getByUsername(username, this::findByUsername);
+    }
+
+    public UserDetails loadUserById(Long id) {
+        return principalCache.getById(id, this::findById);
+    }
+
+    /**
+     * Stores a rehash of an unchanged password after a successful login.
+     * It commits on its own, apart from the login's transaction, so the
+     * rehash is kept even if issuing the tokens fails afterwards. The
+     * credential version stays the same because issued tokens remain valid.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        User entity = userRepository
+            .findById(details.getId())
+            .orElseThrow(() ->
+                new UsernameNotFoundException(
+                    "User not found with id: " + details.getId()
+                )
+            );
+
+        entity.setPassword(newPassword);
+        userRepository.save(entity);
+        log.debug("Rehashed password for user: {}", entity.getId());
+
+        // Cached principals still hold the old hash
+        eventPublisher.publishEvent(UserChangedEvent.of(entity));
+        return CustomUserDetails.build(entity);
+    }
+
+    private CustomUserDetails findByUsername(String username) {
         log.debug("Loading user by username: {}", username);
 
+        if (!registeredUsernames.mightExist(username)) {
+            // Never registered, so neither lookup below could match
+            throw new UsernameNotFoundException(
+                "User not found with username: " + username
+            );
+        }
+
         User user = userRepository
             .findByEmail(username)
             .or(() -> userRepository.findByPhoneNumber(username))
@@ -33,7 +84,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return CustomUserDetails.build(user);
     }
 
-    public UserDetails loadUserById(Long id) {
+    private CustomUserDetails findById(Long id) {
         log.debug("Loading user by id: {}", id);
 
         User user = userRepository
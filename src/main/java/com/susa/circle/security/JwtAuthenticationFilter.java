@@ -1,5 +1,6 @@
 package com.susa.circle.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final CredentialVersionService credentialVersionService;
 
     @Override
     protected void doFilterInternal(
@@ -32,32 +34,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
-            if (StringUtils.hasText(jwt)) {
-                String username = jwtUtil.extractUsername(jwt);
-                if (
-                    username != null &&
-                    SecurityContextHolder.getContext().getAuthentication() ==
-                    null
-                ) {
-                    UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(username);
-                    if (jwtUtil.validateToken(jwt, userDetails)) {
-                        UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                            );
-                        authentication.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(
-                                request
-                            )
+            if (
+                StringUtils.hasText(jwt) &&
+                SecurityContextHolder.getContext().getAuthentication() == null
+            ) {
+                UserDetails userDetails = resolveUser(jwt);
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
                         );
-                        SecurityContextHolder.getContext().setAuthentication(
-                            authentication
-                        );
-                        log.debug("Set authentication for user: {}", username);
-                    }
+                    authentication.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(
+                            request
+                        )
+                    );
+                    SecurityContextHolder.getContext().setAuthentication(
+                        authentication
+                    );
+                    log.debug(
+                        "Set authentication for user: {}",
+                        userDetails.getUsername()
+                    );
                 }
             }
         } catch (Exception e) {
@@ -66,6 +66,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolveUser(String jwt) {
+        // The only signature check for this request
+        Claims claims = jwtUtil.verify(jwt);
+        CustomUserDetails userDetails = jwtUtil.toUserDetails(claims);
+        if (userDetails == null) {
+            // Tokens issued before the id and version claims existed are
+            // checked against the database until they expire
+            String username = claims.getSubject();
+            UserDetails loaded = userDetailsService.loadUserByUsername(
+                username
+            );
+            return username.equals(loaded.getUsername()) ? loaded : null;
+        }
+        if (
+            !credentialVersionService.isCurrent(
+                userDetails.getId(),
+                userDetails.getCredentialVersion()
+            )
+        ) {
+            log.debug(
+                "Rejected revoked token for user id: {}",
+                userDetails.getId()
+            );
+            return null;
+        }
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (
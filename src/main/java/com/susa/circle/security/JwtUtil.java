@@ -1,9 +1,14 @@
 package com.susa.circle.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,12 +23,39 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JwtUtil {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String CREDENTIAL_VERSION_CLAIM = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.verified-cache.max-size:0}")
+    private long verifiedCacheMaxSize;
+
+    @Value("${jwt.verified-cache.ttl:60000}")
+    private long verifiedCacheTtlMillis;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Token string -> claims that already passed signature verification
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        if (verifiedCacheMaxSize > 0) {
+            verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(verifiedCacheTtlMillis))
+                .build();
+        }
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -36,27 +68,63 @@ public class JwtUtil {
         String token,
         Function<Claims, T> claimsResolver
     ) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verify(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies the signature and expiry once and returns the claims. Callers
+     * should read everything they need from the result instead of parsing
+     * the token again. Throws a JwtException if the token is malformed,
+     * forged or expired.
+     */
+    public Claims verify(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return cached;
+        }
+        // Expired entries fall through so the parser reports the expiry
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserDetails user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(CREDENTIAL_VERSION_CLAIM, user.getCredentialVersion());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
+    /**
+     * Verifies the token and builds the principal from its claims alone.
+     * Returns null for tokens issued without the user id and version claims.
+     * Throws a JwtException if the token is malformed, forged or expired.
+     */
+    public CustomUserDetails parseUserDetails(String token) {
+        return toUserDetails(verify(token));
+    }
+
+    public CustomUserDetails toUserDetails(Claims claims) {
+        Long id = claims.get(USER_ID_CLAIM, Long.class);
+        Integer version = claims.get(CREDENTIAL_VERSION_CLAIM, Integer.class);
+        if (id == null || version == null) {
+            return null;
+        }
+        return new CustomUserDetails(
+            id,
+            claims.getSubject(),
+            null,
+            true,
+            version
+        );
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
@@ -66,26 +134,17 @@ public class JwtUtil {
             .subject(subject)
             .issuedAt(now)
             .expiration(expiryDate)
-            .signWith(getSigningKey()) // Changed: uses SecretKey now
+            .signWith(signingKey)
             .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return (
-                username.equals(userDetails.getUsername()) &&
-                !isTokenExpired(token)
-            );
+            // The parser already rejects expired tokens
+            return verify(token).getSubject().equals(userDetails.getUsername());
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
         }
     }
-
-    private SecretKey getSigningKey() {
-        // Changed: returns SecretKey instead of Key
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,144 @@
+package com.susa.circle.security;
+
+import com.susa.circle.cache.CacheInvalidationHandler;
+import com.susa.circle.event.UserChangedEvent;
+import com.susa.circle.repository.UserRepository;
+import com.susa.circle.util.BloomFilter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * A Bloom filter of every registered email and phone number, so lookups of
+ * names that were never registered skip the database.
+ *
+ * Registrations on other nodes only reach the filter over the invalidation
+ * bus, so the filter is used only while the bus is listening. It is built
+ * from the users table each time the bus connects and dropped when it
+ * disconnects; with the bus disabled it is never built. Registrations on any
+ * node are added as they commit. A name is never removed, so a false answer
+ * is right up to the delivery delay of a remote registration's NOTIFY.
+ * Without a filter every name might exist.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegisteredUsernames implements CacheInvalidationHandler {
+
+    private static final int PAGE_SIZE = 10000;
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.username-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.username-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${auth.username-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    // The filter being rebuilt, which must also see names added meanwhile
+    private volatile BloomFilter building;
+
+    /**
+     * Returns false only if no user has this email or phone number.
+     */
+    public boolean mightExist(String username) {
+        BloomFilter current = filter;
+        return (
+            current == null ||
+            username == null ||
+            current.mightContain(username)
+        );
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // Two names per user at most, with room for new registrations
+            long capacity = Math.max(
+                expectedInsertions,
+                userRepository.count() * 4
+            );
+            BloomFilter next = new BloomFilter(capacity, falsePositiveRate);
+            building = next;
+
+            long names = 0;
+            Long afterId = 0L;
+            List<UserRepository.Usernames> page;
+            do {
+                page = userRepository.findUsernamesAfter(
+                    afterId,
+                    Limit.of(PAGE_SIZE)
+                );
+                for (UserRepository.Usernames user : page) {
+                    names += put(next, user.getEmail());
+                    names += put(next, user.getPhoneNumber());
+                    afterId = user.getId();
+                }
+            } while (page.size() == PAGE_SIZE);
+
+            filter = next;
+            log.info(
+                "Built username filter with {} names for {} capacity",
+                names,
+                capacity
+            );
+        } catch (DataAccessException e) {
+            // Keeps the previous filter; without one every name might exist
+            log.error("Building username filter failed: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        add(event.getEmail());
+        add(event.getPhoneNumber());
+    }
+
+    @Override
+    public void onDisconnected() {
+        // Remote registrations would go unseen, so nothing can be ruled out
+        if (filter != null) {
+            log.warn("Username filter off until the invalidation bus is back");
+            filter = null;
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        rebuild();
+    }
+
+    private void add(String username) {
+        BloomFilter current = filter;
+        if (current != null) {
+            put(current, username);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            put(next, username);
+        }
+    }
+
+    private static int put(BloomFilter target, String username) {
+        if (username == null) {
+            return 0;
+        }
+        target.put(username);
+        return 1;
+    }
+}
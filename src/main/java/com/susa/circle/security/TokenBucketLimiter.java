@@ -0,0 +1,131 @@
+package com.susa.circle.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token buckets, one per key.
+ *
+ * Keys are spread over a fixed number of stripes, each with its own lock and
+ * an access-ordered map, so requests for different keys rarely contend. Each
+ * stripe holds at most maxKeys / stripes buckets and drops the least recently
+ * used one beyond that. A bucket idle long enough to refill completely is
+ * indistinguishable from a new one, so it is dropped as well.
+ */
+public class TokenBucketLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long fullRefillNanos;
+    private final int keysPerStripe;
+    private final Stripe[] stripes;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketLimiter(
+        int capacity,
+        int refillPerMinute,
+        int maxKeys,
+        int stripes
+    ) {
+        this(capacity, refillPerMinute, maxKeys, stripes, System::nanoTime);
+    }
+
+    TokenBucketLimiter(
+        int capacity,
+        int refillPerMinute,
+        int maxKeys,
+        int stripes,
+        LongSupplier nanoClock
+    ) {
+        if (capacity < 1 || refillPerMinute < 1 || stripes < 1) {
+            throw new IllegalArgumentException(
+                "Capacity, refill rate and stripes must be positive"
+            );
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000.0;
+        this.fullRefillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.keysPerStripe = Math.max(1, maxKeys / stripes);
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 when the request may proceed,
+     * otherwise the number of milliseconds until a token is available.
+     */
+    public long tryAcquire(String key) {
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        synchronized (stripe) {
+            long now = nanoClock.getAsLong();
+            stripe.evictIdle(now);
+
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(
+                    capacity,
+                    bucket.tokens + (now - bucket.updatedAt) * tokensPerNano
+                );
+                bucket.updatedAt = now;
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            double missingNanos = (1 - bucket.tokens) / tokensPerNano;
+            return Math.max(1, (long) Math.ceil(missingNanos / 1_000_000));
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    private final class Stripe extends LinkedHashMap<String, Bucket> {
+
+        private Stripe() {
+            super(16, 0.75f, true);
+        }
+
+        // Access order puts the longest idle buckets first
+        private void evictIdle(long now) {
+            var entries = values().iterator();
+            while (entries.hasNext()) {
+                if (now - entries.next().updatedAt < fullRefillNanos) {
+                    return;
+                }
+                entries.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > keysPerStripe;
+        }
+    }
+}
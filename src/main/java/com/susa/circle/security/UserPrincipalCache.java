@@ -0,0 +1,100 @@
+package com.susa.circle.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.susa.circle.cache.CacheInvalidationHandler;
+import com.susa.circle.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded in-memory copy of loaded principals, keyed by the username used to
+ * look them up and by user id. Entries expire after a fixed time and are
+ * dropped as soon as a change to the user commits. Hit, miss and eviction
+ * counts are published as the cache.* metrics.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserPrincipalCache implements CacheInvalidationHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.principal-cache.max-size:300000}")
+    private long maxSize;
+
+    @Value("${auth.principal-cache.ttl:600000}")
+    private long ttlMillis;
+
+    private Cache<String, CustomUserDetails> byUsername;
+    private Cache<Long, CustomUserDetails> byId;
+
+    @PostConstruct
+    void init() {
+        byUsername = newCache();
+        byId = newCache();
+        CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            byUsername,
+            "userPrincipalsByUsername"
+        );
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "userPrincipalsById");
+    }
+
+    private <K> Cache<K, CustomUserDetails> newCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached principal or loads it. Exceptions thrown by the
+     * loader, such as UsernameNotFoundException, propagate and nothing is
+     * cached for the key.
+     */
+    public CustomUserDetails getByUsername(
+        String username,
+        Function<String, CustomUserDetails> loader
+    ) {
+        return byUsername.get(username, loader);
+    }
+
+    public CustomUserDetails getById(
+        Long id,
+        Function<Long, CustomUserDetails> loader
+    ) {
+        return byId.get(id, loader);
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug(
+            "Evicting cached principal of user id: {}",
+            event.getUserId()
+        );
+        byId.invalidate(event.getUserId());
+        if (event.getEmail() != null) {
+            byUsername.invalidate(event.getEmail());
+        }
+        if (event.getPhoneNumber() != null) {
+            byUsername.invalidate(event.getPhoneNumber());
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        byUsername.invalidateAll();
+        byId.invalidateAll();
+    }
+}
@@ -2,25 +2,32 @@ package com.susa.circle.service;
 
 import com.susa.circle.dto.request.ChangePasswordRequest;
 import com.susa.circle.dto.request.LoginRequest;
+import com.susa.circle.dto.request.RefreshTokenRequest;
 import com.susa.circle.dto.request.RegisterRequest;
 import com.susa.circle.dto.response.AuthResponse;
+import com.susa.circle.dto.response.AvailabilityResponse;
 import com.susa.circle.dto.response.UserResponse;
 import com.susa.circle.entity.User;
+import com.susa.circle.event.UserChangedEvent;
 import com.susa.circle.exception.BadRequestException;
 import com.susa.circle.exception.ResourceNotFoundException;
 import com.susa.circle.mapper.UserMapper;
 import com.susa.circle.repository.UserRepository;
 import com.susa.circle.security.CustomUserDetails;
 import com.susa.circle.security.JwtUtil;
+import com.susa.circle.security.RegisteredUsernames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +38,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
+    private final RegisteredUsernames registeredUsernames;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -40,6 +50,8 @@ public class AuthService {
             request.getPhoneNumber()
         );
 
+        // Asks the database even for names the username filter has never
+        // seen, which may have just been registered on another node
         if (
             request.getEmail() != null &&
             userRepository.existsByEmail(request.getEmail())
@@ -64,16 +76,22 @@ public class AuthService {
             .build();
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user));
         log.info("User registered successfully with id: {}", user.getId());
 
         // Removed unused username variable and directly create user details
         CustomUserDetails userDetails = CustomUserDetails.build(user);
         String token = jwtUtil.generateToken(userDetails);
+        String refreshToken = refreshTokenService.issue(user.getId());
 
-        return new AuthResponse(token, UserMapper.toResponse(user));
+        return new AuthResponse(
+            token,
+            refreshToken,
+            UserMapper.toResponse(user)
+        );
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthResponse login(LoginRequest request) {
         log.info("Attempting to login user: {}", request.getUsername());
 
@@ -94,13 +112,52 @@ public class AuthService {
             .orElseThrow(() ->
                 new ResourceNotFoundException("User", "id", userDetails.getId())
             );
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         log.info("User logged in successfully: {}", request.getUsername());
-        return new AuthResponse(token, UserMapper.toResponse(user));
+        return new AuthResponse(
+            token,
+            refreshToken,
+            UserMapper.toResponse(user)
+        );
+    }
+
+    /**
+     * Trades a refresh token for a new access token and a new refresh token.
+     * No password is hashed, only the token is looked up by its SHA-256.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(
+            request.getRefreshToken()
+        );
+
+        User user = userRepository
+            .findById(rotation.getUserId())
+            .filter(User::getActive)
+            .orElseThrow(() ->
+                new BadCredentialsException("User is no longer active")
+            );
+
+        String token = jwtUtil.generateToken(CustomUserDetails.build(user));
+        log.debug("Refreshed token for user id: {}", user.getId());
+        return new AuthResponse(
+            token,
+            rotation.getRefreshToken(),
+            UserMapper.toResponse(user)
+        );
+    }
+
+    @Transactional
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
     }
 
     @Transactional
-    public void changePassword(Long userId, ChangePasswordRequest request) {
+    public AuthResponse changePassword(
+        Long userId,
+        ChangePasswordRequest request
+    ) {
         log.info("Attempting to change password for user id: {}", userId);
 
         User user = userRepository
@@ -119,9 +176,39 @@ public class AuthService {
         }
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        // Revokes every token issued before the change, on all devices
+        user.setCredentialVersion(user.getCredentialVersion() + 1);
+        user = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user));
 
         log.info("Password changed successfully for user id: {}", userId);
+
+        // The caller's own tokens were revoked too, so hand out fresh ones
+        refreshTokenService.revokeAll(userId);
+        String token = jwtUtil.generateToken(CustomUserDetails.build(user));
+        String refreshToken = refreshTokenService.issue(userId);
+        return new AuthResponse(
+            token,
+            refreshToken,
+            UserMapper.toResponse(user)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(
+        String email,
+        String phoneNumber
+    ) {
+        return AvailabilityResponse.builder()
+            .emailAvailable(
+                StringUtils.hasText(email) ? !isEmailTaken(email) : null
+            )
+            .phoneNumberAvailable(
+                StringUtils.hasText(phoneNumber)
+                    ? !isPhoneNumberTaken(phoneNumber)
+                    : null
+            )
+            .build();
     }
 
     @Transactional(readOnly = true)
@@ -136,4 +223,19 @@ public class AuthService {
 
         return UserMapper.toResponse(user);
     }
+
+    // Only names the filter might have seen are checked in the database
+    private boolean isEmailTaken(String email) {
+        return (
+            registeredUsernames.mightExist(email) &&
+            userRepository.existsByEmail(email)
+        );
+    }
+
+    private boolean isPhoneNumberTaken(String phoneNumber) {
+        return (
+            registeredUsernames.mightExist(phoneNumber) &&
+            userRepository.existsByPhoneNumber(phoneNumber)
+        );
+    }
 }
@@ -1,23 +1,49 @@
 package com.susa.circle.service;
 
 import com.susa.circle.dto.request.ContactRequest;
+import com.susa.circle.dto.request.EmailRequest;
+import com.susa.circle.dto.request.PhoneRequest;
+import com.susa.circle.dto.response.ContactBatchItemResult;
+import com.susa.circle.dto.response.ContactBatchResponse;
+import com.susa.circle.dto.response.ContactBulkResponse;
+import com.susa.circle.dto.response.ContactMultiGetResponse;
 import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.dto.response.CursorPageResponse;
 import com.susa.circle.entity.Contact;
 import com.susa.circle.entity.ContactEmail;
 import com.susa.circle.entity.ContactPhone;
 import com.susa.circle.entity.User;
+import com.susa.circle.event.ContactsChangedEvent;
 import com.susa.circle.exception.BadRequestException;
+import com.susa.circle.exception.ConflictException;
 import com.susa.circle.exception.ResourceNotFoundException;
 import com.susa.circle.mapper.ContactMapper;
 import com.susa.circle.repository.ContactRepository;
 import com.susa.circle.repository.UserRepository;
+import com.susa.circle.util.ContactCursor;
+import com.susa.circle.util.ContactStatsDelta;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +54,19 @@ public class ContactService {
 
     private final ContactRepository contactRepository;
     private final UserRepository userRepository;
+    private final ContactStatsService contactStatsService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${contacts.batch.max-size:500}")
+    private int maxBatchSize;
+
+    // Ids are bound one parameter each, well below the driver's limit
+    @Value("${contacts.bulk.max-ids:10000}")
+    private int maxBulkIds;
+
+    @Value("${contacts.multi-get.max-ids:1000}")
+    private int maxMultiGetIds;
 
     @Transactional
     public ContactResponse createContact(Long userId, ContactRequest request) {
@@ -39,50 +78,102 @@ public class ContactService {
                 new ResourceNotFoundException("User", "id", userId)
             );
 
-        Contact contact = Contact.builder()
-            .firstName(request.getFirstName())
-            .lastName(request.getLastName())
-            .title(request.getTitle())
-            .user(user)
-            .build();
+        Contact contact = buildContact(user, request);
 
-        if (request.getEmails() != null) {
-            List<ContactEmail> emails = request
-                .getEmails()
-                .stream()
-                .map(emailReq ->
-                    ContactEmail.builder()
-                        .email(emailReq.getEmail())
-                        .type(emailReq.getType())
-                        .contact(contact)
-                        .build()
-                )
-                .collect(Collectors.toList());
-            contact.setEmails(emails);
+        // Flushing fills in the generated timestamps for the response
+        Contact savedContact = contactRepository.saveAndFlush(contact);
+        contactStatsService.applyDelta(
+            userId,
+            ContactStatsDelta.of(savedContact)
+        );
+        eventPublisher.publishEvent(
+            ContactsChangedEvent.of(userId, List.of(savedContact.getId()))
+        );
+        log.info(
+            "Contact created successfully with id: {}",
+            savedContact.getId()
+        );
+
+        return ContactMapper.toResponse(savedContact);
+    }
+
+    /**
+     * Creates all valid contacts in one transaction. The owning user is loaded
+     * once and the inserts go out as JDBC batches. Invalid items are skipped
+     * and reported with their field errors, so one bad item does not reject
+     * the whole batch.
+     */
+    @Transactional
+    public ContactBatchResponse createContacts(
+        Long userId,
+        List<ContactRequest> requests
+    ) {
+        log.info(
+            "Creating {} contacts in batch for user id: {}",
+            requests.size(),
+            userId
+        );
+
+        if (requests.size() > maxBatchSize) {
+            throw new BadRequestException(
+                "At most " + maxBatchSize + " contacts can be created at once"
+            );
         }
 
-        if (request.getPhones() != null) {
-            List<ContactPhone> phones = request
-                .getPhones()
-                .stream()
-                .map(phoneReq ->
-                    ContactPhone.builder()
-                        .phoneNumber(phoneReq.getPhoneNumber())
-                        .type(phoneReq.getType())
-                        .contact(contact)
-                        .build()
+        User user = userRepository
+            .findById(userId)
+            .orElseThrow(() ->
+                new ResourceNotFoundException("User", "id", userId)
+            );
+
+        List<ContactBatchItemResult> results = new ArrayList<>();
+        List<Contact> contacts = new ArrayList<>();
+        List<ContactBatchItemResult> pending = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ContactRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+            ContactBatchItemResult result = ContactBatchItemResult.builder()
+                .index(i)
+                .success(errors.isEmpty())
+                .errors(errors.isEmpty() ? null : errors)
+                .build();
+            results.add(result);
+            if (errors.isEmpty()) {
+                contacts.add(buildContact(user, request));
+                pending.add(result);
+            }
+        }
+
+        if (!contacts.isEmpty()) {
+            List<Contact> saved = contactRepository.saveAllAndFlush(contacts);
+            ContactStatsDelta delta = ContactStatsDelta.none();
+            for (int i = 0; i < saved.size(); i++) {
+                pending
+                    .get(i)
+                    .setContact(ContactMapper.toResponse(saved.get(i)));
+                delta = delta.plus(ContactStatsDelta.of(saved.get(i)));
+            }
+            contactStatsService.applyDelta(userId, delta);
+            eventPublisher.publishEvent(
+                ContactsChangedEvent.of(
+                    userId,
+                    saved.stream().map(Contact::getId).toList()
                 )
-                .collect(Collectors.toList());
-            contact.setPhones(phones);
+            );
         }
 
-        Contact savedContact = contactRepository.save(contact);
         log.info(
-            "Contact created successfully with id: {}",
-            savedContact.getId()
+            "Batch created {} of {} contacts for user id: {}",
+            contacts.size(),
+            requests.size(),
+            userId
         );
 
-        return ContactMapper.toResponse(savedContact);
+        return ContactBatchResponse.builder()
+            .created(contacts.size())
+            .failed(requests.size() - contacts.size())
+            .results(results)
+            .build();
     }
 
     @Transactional(readOnly = true)
@@ -92,66 +183,197 @@ public class ContactService {
     ) {
         log.debug("Fetching contacts for user id: {}", userId);
 
-        Page<Contact> contacts = contactRepository.findByUserId(
+        List<Long> ids = contactRepository.findIdsByUserId(userId, pageable);
+        List<ContactResponse> content = loadContacts(userId, ids);
+
+        return new PageImpl<>(
+            content,
+            pageable,
+            contactStatsService.getTotalContacts(userId)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ContactResponse> searchContacts(
+        Long userId,
+        String search,
+        Pageable pageable
+    ) {
+        log.debug(
+            "Searching contacts for user id: {} with search term: {}",
             userId,
-            pageable
+            search
         );
 
-        // Manual conversion to avoid Streamable/Page issue
-        List<ContactResponse> content = contacts
-            .getContent()
-            .stream()
-            .map(ContactMapper::toResponse)
-            .collect(Collectors.toList());
+        Page<Long> ids = contactRepository.searchIds(userId, search, pageable);
+        List<ContactResponse> content = loadContacts(userId, ids.getContent());
 
-        return new PageImpl<>(content, pageable, contacts.getTotalElements());
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
     }
 
     @Transactional(readOnly = true)
-    public Page<ContactResponse> searchContacts(
+    public Page<ContactResponse> fullTextSearchContacts(
         Long userId,
         String search,
         Pageable pageable
     ) {
         log.debug(
-            "Searching contacts for user id: {} with search term: {}",
+            "Full-text searching contacts for user id: {} with search term: {}",
             userId,
             search
         );
 
-        Page<Contact> contacts = contactRepository.searchContactsByUserId(
+        Page<Long> ids = contactRepository.fullTextSearchIds(
             userId,
             search,
             pageable
         );
+        List<ContactResponse> content = loadContacts(userId, ids.getContent());
 
-        // Manual conversion to avoid Streamable/Page issue
-        List<ContactResponse> content = contacts
-            .getContent()
-            .stream()
-            .map(ContactMapper::toResponse)
-            .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
 
-        return new PageImpl<>(content, pageable, contacts.getTotalElements());
+    /**
+     * Same as {@link #fullTextSearchContacts} for clients that only need to
+     * know whether a further slice exists.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ContactResponse> fullTextSearchContactSlice(
+        Long userId,
+        String search,
+        Pageable pageable
+    ) {
+        Page<ContactResponse> page = fullTextSearchContacts(
+            userId,
+            search,
+            pageable
+        );
+        return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
     }
 
     @Transactional(readOnly = true)
-    public ContactResponse getContactById(Long userId, Long contactId) {
-        log.debug("Fetching contact id: {} for user id: {}", contactId, userId);
+    public Slice<ContactResponse> getContactSlice(
+        Long userId,
+        String search,
+        Pageable pageable
+    ) {
+        log.debug(
+            "Fetching contact slice for user id: {} with search term: {}",
+            userId,
+            search
+        );
 
-        Contact contact = contactRepository
-            .findById(contactId)
-            .orElseThrow(() ->
-                new ResourceNotFoundException("Contact", "id", contactId)
-            );
+        Slice<Long> ids = search == null
+            ? contactRepository.findIdSliceByUserId(userId, pageable)
+            : contactRepository.searchIdSlice(userId, search, pageable);
+        List<ContactResponse> content = loadContacts(userId, ids.getContent());
+
+        return new SliceImpl<>(content, pageable, ids.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ContactResponse> getContactsAfter(
+        Long userId,
+        String search,
+        ContactCursor cursor,
+        int size
+    ) {
+        log.debug(
+            "Fetching contacts for user id: {} after cursor with search term: {}",
+            userId,
+            search
+        );
+
+        // One extra row tells whether another page exists without a count
+        List<Long> ids = contactRepository.findIdsAfter(
+            userId,
+            search,
+            cursor,
+            size + 1
+        );
+        boolean hasNext = ids.size() > size;
+        List<ContactResponse> content = loadContacts(
+            userId,
+            hasNext ? ids.subList(0, size) : ids
+        );
 
-        if (!contact.getUser().getId().equals(userId)) {
+        String nextCursor = hasNext && !content.isEmpty()
+            ? cursor.next(content.get(content.size() - 1)).encode()
+            : null;
+
+        return CursorPageResponse.<ContactResponse>builder()
+            .content(content)
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Loads the user's contacts with the given ids in a fixed number of
+     * queries, whatever the number of ids. Ids that do not exist or belong to
+     * another user are reported as missing.
+     */
+    @Transactional(readOnly = true)
+    public ContactMultiGetResponse getContactsByIds(
+        Long userId,
+        List<Long> ids
+    ) {
+        List<Long> requested = ids.stream().distinct().toList();
+        if (requested.size() > maxMultiGetIds) {
             throw new BadRequestException(
-                "You don't have permission to access this contact"
+                "At most " + maxMultiGetIds + " contacts can be fetched at once"
             );
         }
+        log.debug(
+            "Fetching {} contacts by id for user id: {}",
+            requested.size(),
+            userId
+        );
 
-        return ContactMapper.toResponse(contact);
+        List<ContactResponse> contacts = loadContacts(userId, requested);
+        Set<Long> found = contacts
+            .stream()
+            .map(ContactResponse::getId)
+            .collect(Collectors.toSet());
+
+        return ContactMultiGetResponse.builder()
+            .contacts(contacts)
+            .missingIds(
+                requested.stream().filter(id -> !found.contains(id)).toList()
+            )
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ContactResponse getContactById(Long userId, Long contactId) {
+        log.debug("Fetching contact id: {} for user id: {}", contactId, userId);
+
+        List<Object[]> rows = contactRepository.findWithChildrenByIdAndUserId(
+            contactId,
+            userId
+        );
+        if (rows.isEmpty()) {
+            throw accessFailure(contactId, "access");
+        }
+
+        // Keyed by id because the rows repeat each email and phone
+        Map<Long, ContactEmail> emails = new LinkedHashMap<>();
+        Map<Long, ContactPhone> phones = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] instanceof ContactEmail email) {
+                emails.putIfAbsent(email.getId(), email);
+            }
+            if (row[2] instanceof ContactPhone phone) {
+                phones.putIfAbsent(phone.getId(), phone);
+            }
+        }
+
+        return ContactMapper.toResponse(
+            (Contact) rows.get(0)[0],
+            new ArrayList<>(emails.values()),
+            new ArrayList<>(phones.values())
+        );
     }
 
     @Transactional
@@ -159,55 +381,112 @@ public class ContactService {
         Long userId,
         Long contactId,
         ContactRequest request
+    ) {
+        return updateContact(userId, contactId, request, null);
+    }
+
+    /**
+     * Updates the contact only if the user's contacts are still at the
+     * expected change version. The check runs before anything is loaded.
+     * A null version skips it.
+     */
+    @Transactional
+    public ContactResponse updateContact(
+        Long userId,
+        Long contactId,
+        ContactRequest request,
+        Long expectedChangeVersion
     ) {
         log.info("Updating contact id: {} for user id: {}", contactId, userId);
 
-        // Find the contact to update
-        Contact contact = contactRepository
-            .findById(contactId)
-            .orElseThrow(() ->
-                new ResourceNotFoundException("Contact", "id", contactId)
+        if (expectedChangeVersion != null) {
+            contactStatsService.claimChangeVersion(
+                userId,
+                expectedChangeVersion
             );
+        }
 
-        if (!contact.getUser().getId().equals(userId)) {
-            throw new BadRequestException(
-                "You don't have permission to update this contact"
+        // Loads the contact only if the user owns it, with both collections
+        List<Long> ids = List.of(contactId);
+        Contact contact = contactRepository
+            .findAllWithEmailsByUserIdAndIdIn(userId, ids)
+            .stream()
+            .findFirst()
+            .orElseThrow(() -> accessFailure(contactId, "update"));
+        contactRepository.findAllWithPhonesByUserIdAndIdIn(userId, ids);
+
+        // The client edited an older version; hand back the current one
+        if (
+            request.getVersion() != null &&
+            !request.getVersion().equals(contact.getVersion())
+        ) {
+            throw new ConflictException(
+                "Contact was changed by another request",
+                ContactMapper.toResponse(contact)
             );
         }
 
+        ContactStatsDelta before = ContactStatsDelta.of(contact);
+        List<String> childrenBefore = childValues(contact);
+        boolean fieldsChanged =
+            !Objects.equals(contact.getFirstName(), request.getFirstName()) ||
+            !Objects.equals(contact.getLastName(), request.getLastName()) ||
+            !Objects.equals(contact.getTitle(), request.getTitle());
+
         // Update basic fields
         contact.setFirstName(request.getFirstName());
         contact.setLastName(request.getLastName());
         contact.setTitle(request.getTitle());
 
-        // Clear and recreate emails
-        contact.getEmails().clear();
-        if (request.getEmails() != null) {
-            for (var emailReq : request.getEmails()) {
-                ContactEmail email = ContactEmail.builder()
+        // Reuse existing rows so only real changes reach the database
+        mergeChildren(
+            contact.getEmails(),
+            request.getEmails(),
+            ContactEmail::getEmail,
+            EmailRequest::getEmail,
+            (email, emailReq) -> {
+                email.setEmail(emailReq.getEmail());
+                email.setType(emailReq.getType());
+            },
+            emailReq ->
+                ContactEmail.builder()
                     .email(emailReq.getEmail())
                     .type(emailReq.getType())
                     .contact(contact)
-                    .build();
-                contact.getEmails().add(email);
-            }
-        }
-
-        // Clear and recreate phones
-        contact.getPhones().clear();
-        if (request.getPhones() != null) {
-            for (var phoneReq : request.getPhones()) {
-                ContactPhone phone = ContactPhone.builder()
+                    .build()
+        );
+        mergeChildren(
+            contact.getPhones(),
+            request.getPhones(),
+            ContactPhone::getPhoneNumber,
+            PhoneRequest::getPhoneNumber,
+            (phone, phoneReq) -> {
+                phone.setPhoneNumber(phoneReq.getPhoneNumber());
+                phone.setType(phoneReq.getType());
+            },
+            phoneReq ->
+                ContactPhone.builder()
                     .phoneNumber(phoneReq.getPhoneNumber())
                     .type(phoneReq.getType())
                     .contact(contact)
-                    .build();
-                contact.getPhones().add(phone);
-            }
+                    .build()
+        );
+
+        // Child rows carry no version of their own. When only they changed,
+        // nothing updates the contact row, so its version is moved explicitly.
+        if (!fieldsChanged && !childValues(contact).equals(childrenBefore)) {
+            contactRepository.incrementVersion(contact);
         }
 
-        // Save and return updated contact
-        Contact updatedContact = contactRepository.save(contact);
+        // Flushing runs the version check here, not at commit, and returns
+        // the new version. A concurrent update that committed first makes
+        // it fail with an optimistic locking failure.
+        Contact updatedContact = contactRepository.saveAndFlush(contact);
+        contactStatsService.applyDelta(
+            userId,
+            ContactStatsDelta.of(updatedContact).minus(before)
+        );
+        eventPublisher.publishEvent(ContactsChangedEvent.of(userId, ids));
         log.info(
             "Contact updated successfully with id: {}",
             updatedContact.getId()
@@ -218,21 +497,286 @@ public class ContactService {
 
     @Transactional
     public void deleteContact(Long userId, Long contactId) {
+        deleteContact(userId, contactId, null);
+    }
+
+    /**
+     * Deletes the contact only if the user's contacts are still at the
+     * expected change version. A null version skips the check.
+     */
+    @Transactional
+    public void deleteContact(
+        Long userId,
+        Long contactId,
+        Long expectedChangeVersion
+    ) {
         log.info("Deleting contact id: {} for user id: {}", contactId, userId);
 
-        Contact contact = contactRepository
-            .findById(contactId)
-            .orElseThrow(() ->
-                new ResourceNotFoundException("Contact", "id", contactId)
+        if (expectedChangeVersion != null) {
+            contactStatsService.claimChangeVersion(
+                userId,
+                expectedChangeVersion
             );
+        }
 
-        if (!contact.getUser().getId().equals(userId)) {
+        ContactStatsDelta removed = contactRepository.deleteByIds(
+            userId,
+            List.of(contactId)
+        );
+        if (removed.getTotalContacts() == 0) {
+            throw accessFailure(contactId, "delete");
+        }
+        contactStatsService.applyDelta(userId, removed.negate());
+        eventPublisher.publishEvent(
+            ContactsChangedEvent.of(userId, List.of(contactId))
+        );
+        log.info("Contact deleted successfully with id: {}", contactId);
+    }
+
+    /**
+     * Explains why an ownership-scoped lookup found nothing. The extra query
+     * only runs on this failure path and keeps the 404 for unknown ids apart
+     * from the 400 for contacts of other users.
+     */
+    private RuntimeException accessFailure(Long contactId, String action) {
+        if (contactRepository.existsById(contactId)) {
+            return new BadRequestException(
+                "You don't have permission to " + action + " this contact"
+            );
+        }
+        return new ResourceNotFoundException("Contact", "id", contactId);
+    }
+
+    // The database keeps no order for emails and phones, so only the values
+    // count as a change
+    private static List<String> childValues(Contact contact) {
+        return Stream.concat(
+            contact
+                .getEmails()
+                .stream()
+                .map(email -> "E:" + email.getType() + ":" + email.getEmail()),
+            contact
+                .getPhones()
+                .stream()
+                .map(
+                    phone ->
+                        "P:" + phone.getType() + ":" + phone.getPhoneNumber()
+                )
+        )
+            .sorted()
+            .toList();
+    }
+
+    private Map<String, String> validate(ContactRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        validator
+            .validate(request)
+            .forEach(violation ->
+                errors.putIfAbsent(
+                    violation.getPropertyPath().toString(),
+                    violation.getMessage()
+                )
+            );
+        return errors;
+    }
+
+    private static Contact buildContact(User user, ContactRequest request) {
+        Contact contact = Contact.builder()
+            .firstName(request.getFirstName())
+            .lastName(request.getLastName())
+            .title(request.getTitle())
+            .user(user)
+            .build();
+
+        if (request.getEmails() != null) {
+            List<ContactEmail> emails = request
+                .getEmails()
+                .stream()
+                .map(emailReq ->
+                    ContactEmail.builder()
+                        .email(emailReq.getEmail())
+                        .type(emailReq.getType())
+                        .contact(contact)
+                        .build()
+                )
+                .collect(Collectors.toList());
+            contact.setEmails(emails);
+        }
+
+        if (request.getPhones() != null) {
+            List<ContactPhone> phones = request
+                .getPhones()
+                .stream()
+                .map(phoneReq ->
+                    ContactPhone.builder()
+                        .phoneNumber(phoneReq.getPhoneNumber())
+                        .type(phoneReq.getType())
+                        .contact(contact)
+                        .build()
+                )
+                .collect(Collectors.toList());
+            contact.setPhones(phones);
+        }
+
+        return contact;
+    }
+
+    /**
+     * Brings {@code children} in line with {@code requests} while touching as
+     * few rows as possible. A request first claims an existing child with the
+     * same value, then any unclaimed child in list order, and only then a new
+     * row. Children left unclaimed are removed. Unchanged children produce no
+     * statement at all, because dirty checking skips them. The list ends up in
+     * request order.
+     */
+    private static <C, R> void mergeChildren(
+        List<C> children,
+        List<R> requests,
+        Function<C, String> childValue,
+        Function<R, String> requestValue,
+        BiConsumer<C, R> update,
+        Function<R, C> create
+    ) {
+        List<R> incoming = requests == null ? List.of() : requests;
+        List<C> unclaimed = new ArrayList<>(children);
+        List<C> merged = new ArrayList<>(
+            Collections.nCopies(incoming.size(), null)
+        );
+
+        for (int i = 0; i < incoming.size(); i++) {
+            String value = requestValue.apply(incoming.get(i));
+            for (Iterator<C> it = unclaimed.iterator(); it.hasNext(); ) {
+                C child = it.next();
+                if (Objects.equals(childValue.apply(child), value)) {
+                    merged.set(i, child);
+                    it.remove();
+                    break;
+                }
+            }
+        }
+
+        Iterator<C> reusable = unclaimed.iterator();
+        for (int i = 0; i < incoming.size(); i++) {
+            R request = incoming.get(i);
+            C child = merged.get(i);
+            if (child == null && reusable.hasNext()) {
+                child = reusable.next();
+                reusable.remove();
+            }
+            if (child == null) {
+                merged.set(i, create.apply(request));
+            } else {
+                update.accept(child, request);
+                merged.set(i, child);
+            }
+        }
+
+        // Orphan removal deletes whatever is still unclaimed
+        children.clear();
+        children.addAll(merged);
+    }
+
+    /**
+     * Deletes the selected contacts with set-based statements. Nothing is
+     * loaded into the persistence context, and the counters are adjusted
+     * by what the deleted rows contributed.
+     */
+    @Transactional
+    public ContactBulkResponse deleteContacts(
+        Long userId,
+        List<Long> ids,
+        String search
+    ) {
+        log.info("Bulk deleting contacts for user id: {}", userId);
+
+        boolean byIds = isIdSelection(ids, search);
+        ContactStatsDelta removed = byIds
+            ? contactRepository.deleteByIds(userId, ids)
+            : contactRepository.deleteMatching(userId, search);
+        if (removed.getTotalContacts() > 0) {
+            contactStatsService.applyDelta(userId, removed.negate());
+            publishBulkChange(userId, byIds ? ids : null);
+        }
+
+        log.info(
+            "Bulk deleted {} contacts for user id: {}",
+            removed.getTotalContacts(),
+            userId
+        );
+        return ContactBulkResponse.builder()
+            .affected(removed.getTotalContacts())
+            .build();
+    }
+
+    @Transactional
+    public ContactBulkResponse updateContactTitles(
+        Long userId,
+        List<Long> ids,
+        String search,
+        String title
+    ) {
+        log.info("Bulk updating contact titles for user id: {}", userId);
+
+        boolean byIds = isIdSelection(ids, search);
+        int updated = byIds
+            ? contactRepository.updateTitleByIds(userId, ids, title)
+            : contactRepository.updateTitleMatching(userId, search, title);
+        if (updated > 0) {
+            // Titles do not count towards the stats, but the version moves
+            contactStatsService.applyDelta(userId, ContactStatsDelta.none());
+            publishBulkChange(userId, byIds ? ids : null);
+        }
+
+        log.info("Bulk updated {} contacts for user id: {}", updated, userId);
+        return ContactBulkResponse.builder().affected(updated).build();
+    }
+
+    // A query selection may have touched any of the user's contacts
+    private void publishBulkChange(Long userId, List<Long> ids) {
+        eventPublisher.publishEvent(
+            ids != null
+                ? ContactsChangedEvent.of(userId, ids)
+                : ContactsChangedEvent.allOf(userId)
+        );
+    }
+
+    private boolean isIdSelection(List<Long> ids, String search) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasSearch = search != null && !search.isBlank();
+        if (hasIds == hasSearch) {
+            throw new BadRequestException(
+                "Select contacts either by ids or by query"
+            );
+        }
+        if (hasIds && ids.size() > maxBulkIds) {
             throw new BadRequestException(
-                "You don't have permission to delete this contact"
+                "At most " + maxBulkIds + " ids can be selected at once"
             );
         }
+        return hasIds;
+    }
 
-        contactRepository.delete(contact);
-        log.info("Contact deleted successfully with id: {}", contactId);
+    /**
+     * Loads the given contacts with their emails and phones in a fixed number
+     * of queries and maps them in the order of {@code ids}, which carries the
+     * requested sort.
+     */
+    private List<ContactResponse> loadContacts(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Contact> contacts = contactRepository
+            .findAllWithEmailsByUserIdAndIdIn(userId, ids)
+            .stream()
+            .collect(Collectors.toMap(Contact::getId, Function.identity()));
+        contactRepository.findAllWithPhonesByUserIdAndIdIn(userId, ids);
+
+        return ids
+            .stream()
+            .map(contacts::get)
+            .filter(Objects::nonNull)
+            .map(ContactMapper::toResponse)
+            .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,129 @@
+package com.susa.circle.service;
+
+import com.susa.circle.dto.response.ContactStatsResponse;
+import com.susa.circle.entity.ContactStats;
+import com.susa.circle.exception.PreconditionFailedException;
+import com.susa.circle.mapper.ContactStatsMapper;
+import com.susa.circle.repository.ContactRepository;
+import com.susa.circle.repository.ContactStatsRepository;
+import com.susa.circle.util.ContactStatsDelta;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContactStatsService {
+
+    private final ContactStatsRepository contactStatsRepository;
+    private final ContactRepository contactRepository;
+
+    @Transactional(readOnly = true)
+    public long getTotalContacts(Long userId) {
+        return contactStatsRepository
+            .findById(userId)
+            .map(ContactStats::getTotalContacts)
+            .orElseGet(() -> {
+                // Counters are seeded by the user's next write
+                log.debug("No contact stats for user id: {}", userId);
+                return contactRepository.countByUserId(userId);
+            });
+    }
+
+    @Transactional
+    public ContactStatsResponse getStats(Long userId) {
+        Optional<ContactStats> stats = contactStatsRepository.findById(userId);
+        if (stats.isPresent()) {
+            return ContactStatsMapper.toResponse(stats.get());
+        }
+
+        log.debug("Seeding contact stats for user id: {}", userId);
+        contactStatsRepository.seed(userId);
+        return ContactStatsMapper.toResponse(
+            contactStatsRepository.findById(userId).orElseThrow()
+        );
+    }
+
+    /**
+     * Records a contact write: adjusts the counters by {@code delta} and moves
+     * the change version, in the same statement. Writes that leave the
+     * counters alone still pass a zero delta.
+     */
+    @Transactional
+    public void applyDelta(Long userId, ContactStatsDelta delta) {
+        if (contactStatsRepository.applyDelta(userId, delta) > 0) {
+            return;
+        }
+        // A concurrent write may seed the row first. Its count cannot see this
+        // uncommitted write, so the delta still has to be applied on top. A
+        // row seeded here starts past version 0, which is what readers saw
+        // while it was missing.
+        if (contactStatsRepository.seed(userId) == 0) {
+            contactStatsRepository.applyDelta(userId, delta);
+        }
+    }
+
+    /**
+     * Returns the user's contact change version. It moves on every contact
+     * write, so it identifies the state of all of the user's contacts. Users
+     * whose counters were never seeded are at version 0.
+     */
+    @Transactional(readOnly = true)
+    public long getChangeVersion(Long userId) {
+        return contactStatsRepository.findChangeVersion(userId).orElse(0L);
+    }
+
+    /**
+     * Fails unless the user's change version is still the expected one, and
+     * holds the version until the caller's transaction ends so that no other
+     * write can slip in before the caller's own.
+     */
+    @Transactional
+    public void claimChangeVersion(Long userId, long expected) {
+        if (contactStatsRepository.claimChangeVersion(userId, expected) > 0) {
+            return;
+        }
+        if (expected == 0 && contactStatsRepository.seed(userId) > 0) {
+            return;
+        }
+        log.debug(
+            "Change version {} is stale for user id: {}",
+            expected,
+            userId
+        );
+        throw new PreconditionFailedException(
+            "Contacts were changed by another request"
+        );
+    }
+
+    /**
+     * Recomputes the user's counters from the contact tables and logs any
+     * drift from the incrementally maintained values.
+     */
+    @Transactional
+    public ContactStatsResponse rebuild(Long userId) {
+        log.info("Rebuilding contact stats for user id: {}", userId);
+
+        ContactStatsResponse before = contactStatsRepository
+            .findById(userId)
+            .map(ContactStatsMapper::toResponse)
+            .orElse(null);
+        contactStatsRepository.rebuild(userId);
+        ContactStatsResponse after = ContactStatsMapper.toResponse(
+            contactStatsRepository.findById(userId).orElseThrow()
+        );
+
+        if (before != null && !before.equals(after)) {
+            log.warn(
+                "Corrected drifted contact stats for user id: {} from {} to {}",
+                userId,
+                before,
+                after
+            );
+        }
+        return after;
+    }
+}
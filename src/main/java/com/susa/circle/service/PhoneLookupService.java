@@ -0,0 +1,135 @@
+package com.susa.circle.service;
+
+import com.susa.circle.dto.response.PhoneLookupMatch;
+import com.susa.circle.dto.response.PhoneLookupResponse;
+import com.susa.circle.entity.ContactPhone;
+import com.susa.circle.exception.BadRequestException;
+import com.susa.circle.repository.ContactPhoneRepository;
+import com.susa.circle.util.PhoneNumbers;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhoneLookupService {
+
+    // Keeps each IN list well below the bind parameter limit of the driver
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final ContactPhoneRepository contactPhoneRepository;
+
+    @Value("${contacts.phone-lookup.max-batch-size:5000}")
+    private int maxBatchSize;
+
+    @Transactional(readOnly = true)
+    public PhoneLookupResponse lookup(Long userId, String number) {
+        return lookup(userId, List.of(number)).get(0);
+    }
+
+    /**
+     * Resolves each number to the user's contacts that own it. Results come
+     * back in request order, one per requested number, including numbers
+     * that have no match. A number matches a stored one written with more or
+     * fewer of its country and area code, so a local number may match
+     * several contacts.
+     */
+    @Transactional(readOnly = true)
+    public List<PhoneLookupResponse> lookup(Long userId, List<String> numbers) {
+        if (numbers.size() > maxBatchSize) {
+            throw new BadRequestException(
+                "At most " + maxBatchSize + " numbers can be looked up at once"
+            );
+        }
+        log.debug(
+            "Looking up {} phone numbers for user id: {}",
+            numbers.size(),
+            userId
+        );
+
+        List<String> distinct = new ArrayList<>(
+            numbers
+                .stream()
+                .map(PhoneNumbers::matchKey)
+                .filter(key -> key != null && !key.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+        );
+
+        Map<String, List<ContactPhone>> candidates = new HashMap<>();
+        for (int i = 0; i < distinct.size(); i += QUERY_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(
+                i,
+                Math.min(i + QUERY_CHUNK_SIZE, distinct.size())
+            );
+            List<ContactPhone> phones =
+                contactPhoneRepository.findByUserIdAndNormalizedNumberIn(
+                    userId,
+                    chunk
+                );
+            for (ContactPhone phone : phones) {
+                candidates
+                    .computeIfAbsent(phone.getNormalizedNumber(), key ->
+                        new ArrayList<>()
+                    )
+                    .add(phone);
+            }
+        }
+
+        return numbers
+            .stream()
+            .map(number -> {
+                String normalized = PhoneNumbers.normalize(number);
+                return PhoneLookupResponse.builder()
+                    .number(number)
+                    .normalizedNumber(normalized)
+                    .matches(
+                        matching(
+                            normalized,
+                            candidates.getOrDefault(
+                                PhoneNumbers.matchKey(number),
+                                List.of()
+                            )
+                        )
+                    )
+                    .build();
+            })
+            .toList();
+    }
+
+    // Candidates share the last digits but may differ in their area code
+    private static List<PhoneLookupMatch> matching(
+        String normalized,
+        List<ContactPhone> candidates
+    ) {
+        return candidates
+            .stream()
+            .filter(phone ->
+                PhoneNumbers.sameNumber(
+                    normalized,
+                    PhoneNumbers.normalize(phone.getPhoneNumber())
+                )
+            )
+            .map(PhoneLookupService::toMatch)
+            .toList();
+    }
+
+    private static PhoneLookupMatch toMatch(ContactPhone phone) {
+        return PhoneLookupMatch.builder()
+            .contactId(phone.getContact().getId())
+            .firstName(phone.getContact().getFirstName())
+            .lastName(phone.getContact().getLastName())
+            .phoneId(phone.getId())
+            .phoneNumber(phone.getPhoneNumber())
+            .type(phone.getType())
+            .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.susa.circle.service;
+
+import com.susa.circle.entity.RefreshToken;
+import com.susa.circle.repository.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Issues and rotates refresh tokens.
+ *
+ * A refresh token is 256 random bits, so a single SHA-256 is enough to store
+ * it safely and a lookup by hash replaces the password check. Each token is
+ * good for one refresh. A token presented twice was copied, so its whole
+ * family is revoked and the holder has to log in again.
+ *
+ * A family keeps at most two rows: the live token and the one it replaced.
+ * Older used tokens are deleted on rotation, so presenting one of them is
+ * rejected as unknown instead of revoking the family. Expired tokens are
+ * deleted on login and on rotation.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpirationMillis;
+
+    /**
+     * Starts a new token family, once per login.
+     */
+    @Transactional
+    public String issue(Long userId) {
+        refreshTokenRepository.deleteExpired(userId, LocalDateTime.now());
+        return create(userId, UUID.randomUUID());
+    }
+
+    /**
+     * Marks the token used and returns its successor together with the
+     * owner's id. Throws BadCredentialsException for unknown, expired or
+     * already used tokens; the revocation of a reused token's family is
+     * committed regardless.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository
+            .findByTokenHash(hash(rawToken))
+            .orElseThrow(() ->
+                new BadCredentialsException("Invalid refresh token")
+            );
+
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+
+        if (refreshTokenRepository.markUsed(token.getId()) == 0) {
+            log.warn(
+                "Refresh token reused for user id: {}, revoking its family",
+                token.getUserId()
+            );
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        refreshTokenRepository.deleteUsedInFamily(
+            token.getFamilyId(),
+            token.getId()
+        );
+        refreshTokenRepository.deleteExpired(
+            token.getUserId(),
+            LocalDateTime.now()
+        );
+
+        String next = create(token.getUserId(), token.getFamilyId());
+        return new Rotation(token.getUserId(), next);
+    }
+
+    /**
+     * Revokes the family of the given token, on logout.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository
+            .findByTokenHash(hash(rawToken))
+            .ifPresent(token ->
+                refreshTokenRepository.deleteByFamilyId(token.getFamilyId())
+            );
+    }
+
+    /**
+     * Revokes every refresh token of the user, on all devices.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    private String create(Long userId, UUID familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(bytes);
+
+        refreshTokenRepository.save(
+            RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(
+                    LocalDateTime.now().plus(
+                        Duration.ofMillis(refreshExpirationMillis)
+                    )
+                )
+                .build()
+        );
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                digest.digest(rawToken.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+
+        private final Long userId;
+        private final String refreshToken;
+    }
+}
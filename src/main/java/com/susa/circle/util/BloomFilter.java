@@ -0,0 +1,75 @@
+package com.susa.circle.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size Bloom filter of strings. mightContain never returns false for
+ * a string that was put; it returns true for an absent one with about the
+ * configured probability. Puts and lookups are lock-free and safe to run
+ * concurrently.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(
+            (-n * Math.log(falsePositiveRate)) / (ln2 * ln2)
+        );
+        this.words = new AtomicLongArray(
+            Math.toIntExact(Math.max(1, (size + 63) / 64))
+        );
+        this.bits = words.length() * 64L;
+        this.hashes = Math.max(1, (int) Math.round(((double) bits / n) * ln2));
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the UTF-8 bytes with a seeded offset, finished with the
+    // MurmurHash3 mixer so that nearby strings spread over the whole range
+    private static long hash(String value, long seed) {
+        long hash = 0xCBF29CE484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,79 @@
+package com.susa.circle.util;
+
+import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.enums.ContactSortField;
+import com.susa.circle.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position in a keyset-paged contact listing: the sort it belongs to plus the
+ * (sort value, id) of the last row already returned. Clients only ever see
+ * the encoded form, which is opaque to them.
+ */
+@Getter
+@AllArgsConstructor
+public class ContactCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final ContactSortField sortField;
+    private final boolean descending;
+    private final Object value;
+    private final Long id;
+
+    public static ContactCursor first(
+        ContactSortField sortField,
+        boolean descending
+    ) {
+        return new ContactCursor(sortField, descending, null, null);
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public ContactCursor next(ContactResponse last) {
+        return new ContactCursor(
+            sortField,
+            descending,
+            sortField.parse(sortField.extract(last)),
+            last.getId()
+        );
+    }
+
+    public String encode() {
+        String raw = String.join(
+            SEPARATOR,
+            sortField.name(),
+            descending ? "D" : "A",
+            String.valueOf(id),
+            String.valueOf(value)
+        );
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ContactCursor decode(String encoded) {
+        try {
+            String raw = new String(
+                Base64.getUrlDecoder().decode(encoded),
+                StandardCharsets.UTF_8
+            );
+            // The sort value goes last so that it may contain the separator
+            String[] parts = raw.split(SEPARATOR, 4);
+            ContactSortField sortField = ContactSortField.valueOf(parts[0]);
+            return new ContactCursor(
+                sortField,
+                "D".equals(parts[1]),
+                sortField.parse(parts[3]),
+                Long.valueOf(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.susa.circle.util;
+
+import com.susa.circle.exception.PreconditionFailedException;
+import org.springframework.http.ETag;
+
+/**
+ * Entity tags for contact reads, built from the user's contact change
+ * version. Every tag carries the user id, so a browser cache shared by two
+ * accounts never revalidates one user's page with the other user's tag.
+ */
+public class ContactETags {
+
+    private static final String SEPARATOR = "-";
+
+    public static String forList(Long userId, long changeVersion) {
+        return "\"" + userId + SEPARATOR + changeVersion + "\"";
+    }
+
+    public static String forContact(
+        Long userId,
+        long changeVersion,
+        Long contactId
+    ) {
+        return (
+            "\"" +
+            userId +
+            SEPARATOR +
+            changeVersion +
+            SEPARATOR +
+            contactId +
+            "\""
+        );
+    }
+
+    /**
+     * Evaluates If-None-Match, which compares weakly: a W/ prefix added by
+     * a proxy does not prevent a match.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the change version a write of the contact was based on from
+     * If-Match. Returns null when there is nothing to check: no header, or
+     * "*". Throws if no strong tag of this user's contact is present.
+     */
+    public static Long expectedChangeVersion(
+        String ifMatch,
+        Long userId,
+        Long contactId
+    ) {
+        if (ifMatch == null) {
+            return null;
+        }
+        for (ETag candidate : ETag.parse(ifMatch)) {
+            if (candidate.isWildcard()) {
+                return null;
+            }
+            String[] parts = candidate.tag().split(SEPARATOR);
+            if (
+                !candidate.weak() &&
+                parts.length == 3 &&
+                parts[0].equals(String.valueOf(userId)) &&
+                parts[2].equals(String.valueOf(contactId)) &&
+                parts[1].matches("\\d{1,18}")
+            ) {
+                return Long.parseLong(parts[1]);
+            }
+        }
+        throw new PreconditionFailedException(
+            "Contact was changed by another request"
+        );
+    }
+}
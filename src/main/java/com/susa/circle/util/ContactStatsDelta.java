@@ -0,0 +1,109 @@
+package com.susa.circle.util;
+
+import com.susa.circle.entity.Contact;
+import com.susa.circle.entity.ContactEmail;
+import com.susa.circle.entity.ContactPhone;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The change a write makes to a user's contact counters. Build one from the
+ * contact as it looks before and after the write and subtract them, so
+ * create, update and delete all apply as a single counter update.
+ */
+@Getter
+@AllArgsConstructor
+public class ContactStatsDelta {
+
+    private final long totalContacts;
+    private final long contactsWithoutEmail;
+    private final long contactsWithoutPhone;
+    private final long workEmails;
+    private final long personalEmails;
+    private final long otherEmails;
+    private final long workPhones;
+    private final long homePhones;
+    private final long personalPhones;
+    private final long otherPhones;
+
+    public static ContactStatsDelta none() {
+        return new ContactStatsDelta(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * What a single contact contributes to the counters.
+     */
+    public static ContactStatsDelta of(Contact contact) {
+        List<ContactEmail> emails = contact.getEmails();
+        List<ContactPhone> phones = contact.getPhones();
+        long workEmails = 0, personalEmails = 0, otherEmails = 0;
+        for (ContactEmail email : emails) {
+            switch (email.getType()) {
+                case WORK -> workEmails++;
+                case PERSONAL -> personalEmails++;
+                case OTHER -> otherEmails++;
+            }
+        }
+        long workPhones = 0, homePhones = 0, personalPhones = 0, otherPhones = 0;
+        for (ContactPhone phone : phones) {
+            switch (phone.getType()) {
+                case WORK -> workPhones++;
+                case HOME -> homePhones++;
+                case PERSONAL -> personalPhones++;
+                case OTHER -> otherPhones++;
+            }
+        }
+
+        return new ContactStatsDelta(
+            1,
+            emails.isEmpty() ? 1 : 0,
+            phones.isEmpty() ? 1 : 0,
+            workEmails,
+            personalEmails,
+            otherEmails,
+            workPhones,
+            homePhones,
+            personalPhones,
+            otherPhones
+        );
+    }
+
+    public ContactStatsDelta minus(ContactStatsDelta other) {
+        return new ContactStatsDelta(
+            totalContacts - other.totalContacts,
+            contactsWithoutEmail - other.contactsWithoutEmail,
+            contactsWithoutPhone - other.contactsWithoutPhone,
+            workEmails - other.workEmails,
+            personalEmails - other.personalEmails,
+            otherEmails - other.otherEmails,
+            workPhones - other.workPhones,
+            homePhones - other.homePhones,
+            personalPhones - other.personalPhones,
+            otherPhones - other.otherPhones
+        );
+    }
+
+    public ContactStatsDelta plus(ContactStatsDelta other) {
+        return minus(other.negate());
+    }
+
+    public ContactStatsDelta negate() {
+        return none().minus(this);
+    }
+
+    public boolean isZero() {
+        return (
+            totalContacts == 0 &&
+            contactsWithoutEmail == 0 &&
+            contactsWithoutPhone == 0 &&
+            workEmails == 0 &&
+            personalEmails == 0 &&
+            otherEmails == 0 &&
+            workPhones == 0 &&
+            homePhones == 0 &&
+            personalPhones == 0 &&
+            otherPhones == 0
+        );
+    }
+}
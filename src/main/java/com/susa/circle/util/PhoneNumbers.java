@@ -0,0 +1,40 @@
+package com.susa.circle.util;
+
+public class PhoneNumbers {
+
+    // A local subscriber number has seven digits, so numbers written with
+    // and without country and area codes still share their last seven
+    static final int MATCH_DIGITS = 7;
+
+    /**
+     * Reduces a phone number to its digits, without the leading zeros of an
+     * international ("00") or trunk ("0") prefix. "+1 555-0100",
+     * "1 (555) 0100" and "0015550100" all become "15550100".
+     */
+    public static String normalize(String phoneNumber) {
+        return phoneNumber == null
+            ? null
+            : phoneNumber.replaceAll("\\D", "").replaceFirst("^0+", "");
+    }
+
+    /**
+     * The last seven digits of the normalized number, the indexed value that
+     * caller-ID lookups search for. Numbers with the same key are the same
+     * line only if {@link #sameNumber} agrees.
+     */
+    public static String matchKey(String phoneNumber) {
+        String digits = normalize(phoneNumber);
+        return digits == null || digits.length() <= MATCH_DIGITS
+            ? digits
+            : digits.substring(digits.length() - MATCH_DIGITS);
+    }
+
+    /**
+     * Whether two normalized numbers can reach the same line, that is one is
+     * the other with more of its country or area code written out, as in
+     * "15550100" and "5550100".
+     */
+    public static boolean sameNumber(String normalized, String other) {
+        return normalized.endsWith(other) || other.endsWith(normalized);
+    }
+}
@@ -0,0 +1,6 @@
+-- Optimistic locking for contact updates. Every change to a contact or its
+-- emails and phones moves the version, and an update based on an older
+-- version is rejected instead of overwriting the newer one.
+
+ALTER TABLE contacts
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- Caller-ID lookups match on the last seven digits of a number, without the
+-- leading zeros of an international or trunk prefix, so a number stored as
+-- "555-0100" is found by "+1 555-0100" too. Must match PhoneNumbers.matchKey.
+UPDATE contact_phones
+SET normalized_number = right(
+    regexp_replace(regexp_replace(phone_number, '\D', '', 'g'), '^0+', ''),
+    7
+);
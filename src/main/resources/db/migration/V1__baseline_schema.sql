@@ -0,0 +1,67 @@
+-- Baseline schema for users and contacts. Every statement is guarded with
+-- IF NOT EXISTS so the migration also applies cleanly to databases that were
+-- created by hibernate.ddl-auto=update before migrations existed.
+
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name   VARCHAR(100) NOT NULL,
+    last_name    VARCHAR(100) NOT NULL,
+    email        VARCHAR(255) UNIQUE,
+    phone_number VARCHAR(20) UNIQUE,
+    password     VARCHAR(255) NOT NULL,
+    active       BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS contacts (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name  VARCHAR(100) NOT NULL,
+    title      VARCHAR(100),
+    user_id    BIGINT       NOT NULL REFERENCES users (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS contact_emails (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    type       VARCHAR(20)  NOT NULL,
+    contact_id BIGINT       NOT NULL REFERENCES contacts (id)
+);
+
+CREATE TABLE IF NOT EXISTS contact_phones (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    phone_number VARCHAR(20) NOT NULL,
+    type         VARCHAR(20) NOT NULL,
+    contact_id   BIGINT      NOT NULL REFERENCES contacts (id)
+);
+
+CREATE TABLE IF NOT EXISTS contact_stats (
+    user_id        BIGINT PRIMARY KEY REFERENCES users (id),
+    total_contacts BIGINT NOT NULL
+);
+
+-- Listing and keyset paging: WHERE user_id = ? ORDER BY <sort key>, id.
+-- The first_name index also serves plain user_id lookups and counts.
+CREATE INDEX IF NOT EXISTS idx_contacts_user_first_name
+    ON contacts (user_id, first_name, id);
+CREATE INDEX IF NOT EXISTS idx_contacts_user_last_name
+    ON contacts (user_id, last_name, id);
+CREATE INDEX IF NOT EXISTS idx_contacts_user_created_at
+    ON contacts (user_id, created_at, id);
+
+-- Bulk child loads by contact id, and FK checks when contacts are deleted
+CREATE INDEX IF NOT EXISTS idx_contact_emails_contact_id
+    ON contact_emails (contact_id);
+CREATE INDEX IF NOT EXISTS idx_contact_phones_contact_id
+    ON contact_phones (contact_id);
+
+-- Seed the counters of users that have none yet
+INSERT INTO contact_stats (user_id, total_contacts)
+SELECT u.id, COUNT(c.id)
+FROM users u
+LEFT JOIN contacts c ON c.user_id = u.id
+GROUP BY u.id
+ON CONFLICT (user_id) DO NOTHING;
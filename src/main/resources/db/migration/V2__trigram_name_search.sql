@@ -0,0 +1,21 @@
+-- Substring search on contact names backed by trigram GIN indexes.
+-- btree_gin lets user_id sit in the same GIN index, so a search only ever
+-- touches the posting lists of the calling user's rows.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- unaccent() is only STABLE because its dictionary could be swapped at
+-- runtime. Pinning the dictionary makes the wrapper IMMUTABLE, which index
+-- expressions require. Queries must use the same function to hit the index.
+CREATE OR REPLACE FUNCTION search_normalize(value TEXT) RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, value))
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_contacts_first_name_trgm
+    ON contacts USING gin (user_id, search_normalize(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_contacts_last_name_trgm
+    ON contacts USING gin (user_id, search_normalize(last_name) gin_trgm_ops);
@@ -0,0 +1,116 @@
+-- Ranked full-text search over names, title, emails and phone numbers.
+-- Every contact carries a precomputed tsvector, so a search reads one row
+-- per candidate instead of joining both child tables at query time.
+ALTER TABLE contacts ADD COLUMN IF NOT EXISTS search_document TSVECTOR;
+
+-- Names weigh most, then the title, then emails and phones. Emails also
+-- contribute their domain and local part, so "acme.com" or "jane.doe" match
+-- on their own. Phones contribute their digits plus the last 7 and last 4
+-- digits, so partial numbers typed the usual way can be found.
+CREATE OR REPLACE FUNCTION contact_search_document(
+    p_contact_id BIGINT,
+    p_first_name TEXT,
+    p_last_name  TEXT,
+    p_title      TEXT
+) RETURNS TSVECTOR
+    LANGUAGE sql
+    STABLE
+AS $$
+    SELECT
+        setweight(to_tsvector('simple', search_normalize(
+            coalesce(p_first_name, '') || ' ' || coalesce(p_last_name, '')
+        )), 'A')
+        || setweight(to_tsvector('simple', coalesce(search_normalize(p_title), '')), 'B')
+        || setweight(to_tsvector('simple', coalesce((
+            SELECT string_agg(
+                lower(e.email) || ' ' ||
+                split_part(lower(e.email), '@', 1) || ' ' ||
+                split_part(lower(e.email), '@', 2),
+                ' '
+            )
+            FROM contact_emails e
+            WHERE e.contact_id = p_contact_id
+        ), '')), 'C')
+        || setweight(to_tsvector('simple', coalesce((
+            SELECT string_agg(
+                d.digits || ' ' || right(d.digits, 7) || ' ' || right(d.digits, 4),
+                ' '
+            )
+            FROM (
+                SELECT regexp_replace(p.phone_number, '\D', '', 'g') AS digits
+                FROM contact_phones p
+                WHERE p.contact_id = p_contact_id
+            ) d
+        ), '')), 'C')
+$$;
+
+-- Name and title changes recompute the document of the row being written
+CREATE OR REPLACE FUNCTION contacts_search_document_trigger() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_document := contact_search_document(
+        NEW.id, NEW.first_name, NEW.last_name, NEW.title
+    );
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_contacts_search_document ON contacts;
+CREATE TRIGGER trg_contacts_search_document
+    BEFORE INSERT OR UPDATE OF first_name, last_name, title ON contacts
+    FOR EACH ROW EXECUTE FUNCTION contacts_search_document_trigger();
+
+-- Child writes refresh only the contacts they touched, once per statement
+CREATE OR REPLACE FUNCTION contact_children_search_document_trigger() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE contacts c
+    SET search_document = contact_search_document(c.id, c.first_name, c.last_name, c.title)
+    WHERE c.id IN (SELECT DISTINCT changed.contact_id FROM changed_rows changed);
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_contact_emails_search_insert ON contact_emails;
+CREATE TRIGGER trg_contact_emails_search_insert
+    AFTER INSERT ON contact_emails
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION contact_children_search_document_trigger();
+
+DROP TRIGGER IF EXISTS trg_contact_emails_search_update ON contact_emails;
+CREATE TRIGGER trg_contact_emails_search_update
+    AFTER UPDATE ON contact_emails
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION contact_children_search_document_trigger();
+
+DROP TRIGGER IF EXISTS trg_contact_emails_search_delete ON contact_emails;
+CREATE TRIGGER trg_contact_emails_search_delete
+    AFTER DELETE ON contact_emails
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION contact_children_search_document_trigger();
+
+DROP TRIGGER IF EXISTS trg_contact_phones_search_insert ON contact_phones;
+CREATE TRIGGER trg_contact_phones_search_insert
+    AFTER INSERT ON contact_phones
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION contact_children_search_document_trigger();
+
+DROP TRIGGER IF EXISTS trg_contact_phones_search_update ON contact_phones;
+CREATE TRIGGER trg_contact_phones_search_update
+    AFTER UPDATE ON contact_phones
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION contact_children_search_document_trigger();
+
+DROP TRIGGER IF EXISTS trg_contact_phones_search_delete ON contact_phones;
+CREATE TRIGGER trg_contact_phones_search_delete
+    AFTER DELETE ON contact_phones
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION contact_children_search_document_trigger();
+
+UPDATE contacts c
+SET search_document = contact_search_document(c.id, c.first_name, c.last_name, c.title);
+
+CREATE INDEX IF NOT EXISTS idx_contacts_search_document
+    ON contacts USING gin (user_id, search_document);
@@ -0,0 +1,13 @@
+-- Digits-only phone numbers for reverse (caller-ID) lookups. The index leads
+-- with the number and carries contact_id, so resolving a number is one index
+-- probe followed by a primary-key check of the owning contact.
+ALTER TABLE contact_phones ADD COLUMN IF NOT EXISTS normalized_number VARCHAR(20);
+
+UPDATE contact_phones
+SET normalized_number = regexp_replace(phone_number, '\D', '', 'g')
+WHERE normalized_number IS NULL;
+
+ALTER TABLE contact_phones ALTER COLUMN normalized_number SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_contact_phones_normalized_number
+    ON contact_phones (normalized_number, contact_id);
@@ -0,0 +1,75 @@
+-- Dashboard counters next to the existing total: contacts missing an email
+-- or a phone, and email and phone entries per type. The contact write paths
+-- keep them current, so the dashboard is a single primary-key read.
+
+ALTER TABLE contact_stats
+    ADD COLUMN IF NOT EXISTS contacts_without_email BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS contacts_without_phone BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS work_emails            BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS personal_emails        BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS other_emails           BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS work_phones            BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS home_phones            BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS personal_phones        BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS other_phones           BIGINT NOT NULL DEFAULT 0;
+
+-- Recompute every user's row, including the total, from the contact tables.
+INSERT INTO contact_stats (
+    user_id, total_contacts, contacts_without_email, contacts_without_phone,
+    work_emails, personal_emails, other_emails,
+    work_phones, home_phones, personal_phones, other_phones
+)
+SELECT u.id,
+       COALESCE(c.total, 0),
+       COALESCE(c.without_email, 0),
+       COALESCE(c.without_phone, 0),
+       COALESCE(e.work, 0),
+       COALESCE(e.personal, 0),
+       COALESCE(e.other, 0),
+       COALESCE(p.work, 0),
+       COALESCE(p.home, 0),
+       COALESCE(p.personal, 0),
+       COALESCE(p.other, 0)
+FROM users u
+LEFT JOIN (
+    SELECT c.user_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE NOT EXISTS (
+               SELECT 1 FROM contact_emails ce WHERE ce.contact_id = c.id
+           )) AS without_email,
+           COUNT(*) FILTER (WHERE NOT EXISTS (
+               SELECT 1 FROM contact_phones cp WHERE cp.contact_id = c.id
+           )) AS without_phone
+    FROM contacts c
+    GROUP BY c.user_id
+) c ON c.user_id = u.id
+LEFT JOIN (
+    SELECT c.user_id,
+           COUNT(*) FILTER (WHERE ce.type = 'WORK') AS work,
+           COUNT(*) FILTER (WHERE ce.type = 'PERSONAL') AS personal,
+           COUNT(*) FILTER (WHERE ce.type = 'OTHER') AS other
+    FROM contact_emails ce
+    JOIN contacts c ON c.id = ce.contact_id
+    GROUP BY c.user_id
+) e ON e.user_id = u.id
+LEFT JOIN (
+    SELECT c.user_id,
+           COUNT(*) FILTER (WHERE cp.type = 'WORK') AS work,
+           COUNT(*) FILTER (WHERE cp.type = 'HOME') AS home,
+           COUNT(*) FILTER (WHERE cp.type = 'PERSONAL') AS personal,
+           COUNT(*) FILTER (WHERE cp.type = 'OTHER') AS other
+    FROM contact_phones cp
+    JOIN contacts c ON c.id = cp.contact_id
+    GROUP BY c.user_id
+) p ON p.user_id = u.id
+ON CONFLICT (user_id) DO UPDATE SET
+    total_contacts         = EXCLUDED.total_contacts,
+    contacts_without_email = EXCLUDED.contacts_without_email,
+    contacts_without_phone = EXCLUDED.contacts_without_phone,
+    work_emails            = EXCLUDED.work_emails,
+    personal_emails        = EXCLUDED.personal_emails,
+    other_emails           = EXCLUDED.other_emails,
+    work_phones            = EXCLUDED.work_phones,
+    home_phones            = EXCLUDED.home_phones,
+    personal_phones        = EXCLUDED.personal_phones,
+    other_phones           = EXCLUDED.other_phones;
@@ -0,0 +1,25 @@
+-- Move id generation from identity columns to pooled sequences. Identity
+-- ids are only known after each INSERT, which keeps Hibernate from batching.
+-- A sequence that advances by 50 lets Hibernate hand out a block of ids per
+-- nextval call and write a contact and its children as batched statements.
+-- INCREMENT BY must match allocationSize on the entities.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contacts_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contact_emails_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contact_phones_seq INCREMENT BY 50;
+
+-- Hibernate treats each nextval result as the top of a block of 50 ids.
+-- After setval(seq, max(id)), the next block starts right above the largest
+-- existing id. Empty tables keep the fresh sequence.
+SELECT setval('users_seq', MAX(id)) FROM users HAVING MAX(id) IS NOT NULL;
+SELECT setval('contacts_seq', MAX(id)) FROM contacts HAVING MAX(id) IS NOT NULL;
+SELECT setval('contact_emails_seq', MAX(id))
+FROM contact_emails HAVING MAX(id) IS NOT NULL;
+SELECT setval('contact_phones_seq', MAX(id))
+FROM contact_phones HAVING MAX(id) IS NOT NULL;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE contacts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE contact_emails ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE contact_phones ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,5 @@
+-- Tokens carry the user's credential version. Bumping it (on a password
+-- change, for example) revokes every token issued before the change.
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS credential_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+-- Long-lived refresh tokens, so expired access tokens are renewed without
+-- another password check. Only a SHA-256 hash of each token is stored.
+-- Every refresh marks the presented token used and issues its successor in
+-- the same family; presenting a used token revokes the whole family.
+
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT       PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    token_hash VARCHAR(64)  NOT NULL UNIQUE,
+    family_id  UUID         NOT NULL,
+    used       BOOLEAN      NOT NULL DEFAULT FALSE,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id
+    ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id
+    ON refresh_tokens (family_id);
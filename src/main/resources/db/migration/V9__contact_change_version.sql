@@ -0,0 +1,7 @@
+-- Every contact write bumps the user's change version, so HTTP validators
+-- for contact reads come from a single primary-key read. Rows start at 1:
+-- a user without a row reads as version 0, and seeding the row as part of
+-- a write must still move the version.
+
+ALTER TABLE contact_stats
+    ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL DEFAULT 1;
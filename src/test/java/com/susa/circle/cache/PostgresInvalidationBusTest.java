@@ -0,0 +1,207 @@
+package com.susa.circle.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.event.ContactsChangedEvent;
+import com.susa.circle.event.UserChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(
+    properties = {
+        "cache.invalidation.channel=cache_invalidation_test",
+        "cache.invalidation.poll-timeout=500",
+    }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(
+    {
+        PostgresInvalidationBus.class,
+        PostgresInvalidationBusTest.HandlerConfig.class,
+    }
+)
+class PostgresInvalidationBusTest {
+
+    @Autowired
+    private PostgresInvalidationBus bus;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // The listener flushes everything once it is connected
+        assertTrue(handler.connected.await(10, TimeUnit.SECONDS));
+        handler.received.clear();
+    }
+
+    @Test
+    void testRemoteUserChange_EvictsUserKeys() throws Exception {
+        notifyFromOtherNode(
+            "{\"type\":\"user\",\"origin\":\"other\",\"userId\":7," +
+                "\"email\":\"john@example.com\",\"phoneNumber\":null}"
+        );
+
+        Object received = handler.received.poll(5, TimeUnit.SECONDS);
+
+        UserChangedEvent event = assertInstanceOf(
+            UserChangedEvent.class,
+            received
+        );
+        assertEquals(7L, event.getUserId());
+        assertEquals("john@example.com", event.getEmail());
+    }
+
+    @Test
+    void testRemoteContactsChange_EvictsContactKeys() throws Exception {
+        notifyFromOtherNode(
+            "{\"type\":\"contacts\",\"origin\":\"other\",\"userId\":7," +
+                "\"contactIds\":[1,2]}"
+        );
+
+        Object received = handler.received.poll(5, TimeUnit.SECONDS);
+
+        ContactsChangedEvent event = assertInstanceOf(
+            ContactsChangedEvent.class,
+            received
+        );
+        assertEquals(7L, event.getUserId());
+        assertEquals(List.of(1L, 2L), event.getContactIds());
+    }
+
+    @Test
+    void testHandle_SkipsOwnMessages() {
+        String nodeId = (String) ReflectionTestUtils.getField(bus, "nodeId");
+
+        bus.handle(
+            "{\"type\":\"user\",\"origin\":\"" + nodeId + "\",\"userId\":7}"
+        );
+
+        assertTrue(handler.received.isEmpty());
+    }
+
+    @Test
+    void testHandle_UnreadableMessageFlushesEverything() {
+        int before = handler.flushes.get();
+
+        bus.handle("not json");
+
+        assertEquals(before + 1, handler.flushes.get());
+    }
+
+    @Test
+    void testPayload_KeepsShortContactIdLists() {
+        InvalidationMessage message = InvalidationMessage.builder()
+            .type(InvalidationMessage.CONTACTS)
+            .userId(7L)
+            .contactIds(List.of(1L, 2L))
+            .build();
+
+        String payload = bus.payload(message);
+
+        assertTrue(payload.contains("\"contactIds\":[1,2]"));
+    }
+
+    @Test
+    void testPayload_TooManyContactIdsFallBackToAllContacts() {
+        List<Long> contactIds = LongStream.range(0, 500)
+            .map(i -> 1_000_000_000_000_000L + i)
+            .boxed()
+            .toList();
+        InvalidationMessage message = InvalidationMessage.builder()
+            .type(InvalidationMessage.CONTACTS)
+            .userId(7L)
+            .contactIds(contactIds)
+            .build();
+
+        String payload = bus.payload(message);
+
+        assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < 8000);
+        assertTrue(payload.contains("\"contactIds\":null"));
+    }
+
+    @Test
+    void testContactsChanged_NotSentWithoutContactHandlers() {
+        // No entity manager: sending anything would fail
+        PostgresInvalidationBus withoutContactCaches =
+            new PostgresInvalidationBus(List.of(() -> {}));
+        ReflectionTestUtils.setField(withoutContactCaches, "enabled", true);
+
+        assertDoesNotThrow(() ->
+            withoutContactCaches.onContactsChanged(
+                ContactsChangedEvent.of(7L, List.of(1L))
+            )
+        );
+    }
+
+    private void notifyFromOtherNode(String payload) throws Exception {
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_notify('cache_invalidation_test', ?)"
+            )
+        ) {
+            connection.setAutoCommit(true);
+            statement.setString(1, payload);
+            statement.execute();
+        }
+    }
+
+    @TestConfiguration
+    static class HandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements CacheInvalidationHandler {
+
+        final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        final CountDownLatch connected = new CountDownLatch(1);
+        final AtomicInteger flushes = new AtomicInteger();
+
+        @Override
+        public void onUserChanged(UserChangedEvent event) {
+            received.add(event);
+        }
+
+        @Override
+        public void onContactsChanged(ContactsChangedEvent event) {
+            received.add(event);
+        }
+
+        @Override
+        public boolean handlesContactChanges() {
+            return true;
+        }
+
+        @Override
+        public void invalidateAll() {
+            flushes.incrementAndGet();
+            connected.countDown();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.susa.circle.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.DefaultCorsProcessor;
+
+class SecurityConfigTest {
+
+    private final SecurityConfig securityConfig = new SecurityConfig(
+        null,
+        null,
+        null,
+        null,
+        null
+    );
+
+    @Test
+    void testCors_ExposesETag() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(
+            "GET",
+            "/api/contacts"
+        );
+        request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CorsConfiguration configuration = securityConfig
+            .corsConfigurationSource()
+            .getCorsConfiguration(request);
+
+        assertTrue(
+            new DefaultCorsProcessor().processRequest(
+                configuration,
+                request,
+                response
+            )
+        );
+        assertEquals(
+            "http://localhost:3000",
+            response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)
+        );
+        assertEquals(
+            HttpHeaders.ETAG,
+            response.getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)
+        );
+    }
+}
@@ -10,9 +10,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.susa.circle.dto.request.ChangePasswordRequest;
 import com.susa.circle.dto.request.LoginRequest;
+import com.susa.circle.dto.request.RefreshTokenRequest;
 import com.susa.circle.dto.request.RegisterRequest;
 import com.susa.circle.dto.response.AuthResponse;
+import com.susa.circle.dto.response.AvailabilityResponse;
 import com.susa.circle.dto.response.UserResponse;
+import com.susa.circle.exception.ServiceUnavailableException;
+import com.susa.circle.security.AuthRateLimitFilter;
 import com.susa.circle.security.CustomUserDetails;
 import com.susa.circle.security.JwtAuthenticationFilter;
 import com.susa.circle.service.AuthService;
@@ -37,7 +41,7 @@ import org.springframework.test.web.servlet.MockMvc;
     controllers = AuthController.class,
     excludeFilters = @ComponentScan.Filter(
         type = FilterType.ASSIGNABLE_TYPE,
-        classes = JwtAuthenticationFilter.class
+        classes = { JwtAuthenticationFilter.class, AuthRateLimitFilter.class }
     )
 )
 @AutoConfigureMockMvc(addFilters = false)
@@ -102,6 +106,7 @@ class AuthControllerTest {
         authResponse = AuthResponse.builder()
             .token("test-jwt-token")
             .type("Bearer")
+            .refreshToken("test-refresh-token")
             .user(userResponse)
             .build();
 
@@ -235,6 +240,69 @@ class AuthControllerTest {
         verify(authService, never()).login(any(LoginRequest.class));
     }
 
+    @Test
+    void testCheckAvailability() throws Exception {
+        AvailabilityResponse availability = AvailabilityResponse.builder()
+            .emailAvailable(false)
+            .build();
+        when(
+            authService.checkAvailability("john@example.com", null)
+        ).thenReturn(availability);
+
+        mockMvc
+            .perform(
+                get("/api/auth/availability").param("email", "john@example.com")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.emailAvailable").value(false))
+            .andExpect(jsonPath("$.data.phoneNumberAvailable").doesNotExist());
+    }
+
+    @Test
+    void testRefresh_Success() throws Exception {
+        when(authService.refresh(any(RefreshTokenRequest.class))).thenReturn(
+            authResponse
+        );
+
+        mockMvc
+            .perform(
+                post("/api/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new RefreshTokenRequest("old-refresh-token")
+                        )
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.token").value("test-jwt-token"))
+            .andExpect(
+                jsonPath("$.data.refreshToken").value("test-refresh-token")
+            );
+
+        verify(authService).refresh(any(RefreshTokenRequest.class));
+    }
+
+    @Test
+    void testRefresh_InvalidToken() throws Exception {
+        when(authService.refresh(any(RefreshTokenRequest.class))).thenThrow(
+            new BadCredentialsException("Invalid refresh token")
+        );
+
+        mockMvc
+            .perform(
+                post("/api/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new RefreshTokenRequest("reused-refresh-token")
+                        )
+                    )
+            )
+            .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @WithMockUser
     void testGetCurrentUser_Success() throws Exception {
@@ -250,6 +318,25 @@ class AuthControllerTest {
         verify(authService).getCurrentUser(anyLong());
     }
 
+    @Test
+    void testLogin_HashingBusy() throws Exception {
+        when(authService.login(any(LoginRequest.class))).thenThrow(
+            new ServiceUnavailableException(
+                "Authentication is busy, please try again shortly"
+            )
+        );
+
+        mockMvc
+            .perform(
+                post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(loginRequest))
+            )
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"))
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     @WithMockUser
     void testChangePassword_Success() throws Exception {
@@ -257,9 +344,12 @@ class AuthControllerTest {
         request.setCurrentPassword("password123");
         request.setNewPassword("newpassword123");
 
-        doNothing()
-            .when(authService)
-            .changePassword(anyLong(), any(ChangePasswordRequest.class));
+        when(
+            authService.changePassword(
+                anyLong(),
+                any(ChangePasswordRequest.class)
+            )
+        ).thenReturn(authResponse);
 
         mockMvc
             .perform(
@@ -272,7 +362,8 @@ class AuthControllerTest {
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(
                 jsonPath("$.message").value("Password changed successfully")
-            );
+            )
+            .andExpect(jsonPath("$.data.token").value("test-jwt-token"));
 
         verify(authService).changePassword(
             anyLong(),
@@ -1,5 +1,6 @@
 package com.susa.circle.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -7,20 +8,41 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.susa.circle.dto.request.ContactBatchRequest;
+import com.susa.circle.dto.request.ContactBulkUpdateRequest;
+import com.susa.circle.dto.request.ContactMultiGetRequest;
 import com.susa.circle.dto.request.ContactRequest;
+import com.susa.circle.dto.request.ContactSelectionRequest;
 import com.susa.circle.dto.request.EmailRequest;
+import com.susa.circle.dto.request.PhoneLookupRequest;
 import com.susa.circle.dto.request.PhoneRequest;
+import com.susa.circle.dto.response.ContactBatchItemResult;
+import com.susa.circle.dto.response.ContactBatchResponse;
+import com.susa.circle.dto.response.ContactBulkResponse;
+import com.susa.circle.dto.response.ContactMultiGetResponse;
 import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.dto.response.ContactStatsResponse;
+import com.susa.circle.dto.response.CursorPageResponse;
 import com.susa.circle.dto.response.EmailResponse;
+import com.susa.circle.dto.response.PhoneLookupMatch;
+import com.susa.circle.dto.response.PhoneLookupResponse;
 import com.susa.circle.dto.response.PhoneResponse;
+import com.susa.circle.entity.Contact;
 import com.susa.circle.enums.EmailType;
 import com.susa.circle.enums.PhoneType;
+import com.susa.circle.exception.ConflictException;
+import com.susa.circle.exception.PreconditionFailedException;
+import com.susa.circle.security.AuthRateLimitFilter;
 import com.susa.circle.security.CustomUserDetails;
 import com.susa.circle.security.JwtAuthenticationFilter;
 import com.susa.circle.service.ContactService;
+import com.susa.circle.service.ContactStatsService;
+import com.susa.circle.service.PhoneLookupService;
+import com.susa.circle.util.ContactCursor;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,7 +52,9 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,7 +63,7 @@ import org.springframework.test.web.servlet.MockMvc;
     controllers = ContactController.class,
     excludeFilters = @ComponentScan.Filter(
         type = FilterType.ASSIGNABLE_TYPE,
-        classes = JwtAuthenticationFilter.class
+        classes = { JwtAuthenticationFilter.class, AuthRateLimitFilter.class }
     )
 )
 @AutoConfigureMockMvc(addFilters = false)
@@ -54,6 +78,12 @@ class ContactControllerTest {
     @MockitoBean
     private ContactService contactService;
 
+    @MockitoBean
+    private PhoneLookupService phoneLookupService;
+
+    @MockitoBean
+    private ContactStatsService contactStatsService;
+
     private ContactRequest contactRequest;
     private ContactResponse contactResponse;
     private CustomUserDetails userDetails;
@@ -205,6 +235,140 @@ class ContactControllerTest {
         verify(contactService).getAllContacts(anyLong(), any());
     }
 
+    @Test
+    @WithMockUser
+    void testGetContactSlice_WithoutTotal() throws Exception {
+        when(
+            contactService.getContactSlice(anyLong(), isNull(), any())
+        ).thenReturn(new SliceImpl<>(List.of(contactResponse)));
+
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .param("includeTotal", "false")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].firstName").value("Jane"))
+            .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(contactService, never()).getAllContacts(anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsAfter_FirstPage() throws Exception {
+        CursorPageResponse<ContactResponse> cursorPage =
+            CursorPageResponse.<ContactResponse>builder()
+                .content(List.of(contactResponse))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next-cursor")
+                .build();
+
+        when(
+            contactService.getContactsAfter(
+                anyLong(),
+                isNull(),
+                any(ContactCursor.class),
+                eq(1)
+            )
+        ).thenReturn(cursorPage);
+
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .param("after", "")
+                    .param("size", "1")
+                    .param("sortBy", "lastName")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].firstName").value("Jane"))
+            .andExpect(jsonPath("$.data.hasNext").value(true))
+            .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+
+        verify(contactService, never()).getAllContacts(anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsAfter_UnsupportedSortField() throws Exception {
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .param("after", "")
+                    .param("sortBy", "title")
+            )
+            .andExpect(status().isBadRequest());
+
+        verify(contactService, never()).getContactsAfter(
+            anyLong(),
+            any(),
+            any(),
+            anyInt()
+        );
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsAfter_RejectsZeroSize() throws Exception {
+        assertCursorSizeRejected("0");
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsAfter_RejectsNegativeSize() throws Exception {
+        assertCursorSizeRejected("-1");
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsAfter_RejectsOversizedSize() throws Exception {
+        assertCursorSizeRejected("101");
+        assertCursorSizeRejected(String.valueOf(Integer.MAX_VALUE));
+    }
+
+    private void assertCursorSizeRejected(String size) throws Exception {
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .param("after", "")
+                    .param("size", size)
+            )
+            .andExpect(status().isBadRequest());
+        mockMvc
+            .perform(
+                get("/api/contacts/search")
+                    .with(user(userDetails))
+                    .param("query", "jane")
+                    .param("after", "")
+                    .param("size", size)
+            )
+            .andExpect(status().isBadRequest());
+
+        verify(contactService, never()).getContactsAfter(
+            anyLong(),
+            any(),
+            any(),
+            anyInt()
+        );
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsAfter_InvalidCursor() throws Exception {
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .param("after", "not-a-cursor")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser
     void testSearchContacts_Success() throws Exception {
@@ -231,6 +395,89 @@ class ContactControllerTest {
         verify(contactService).searchContacts(anyLong(), eq("jane"), any());
     }
 
+    @Test
+    @WithMockUser
+    void testSearchContacts_FullTextMode() throws Exception {
+        Page<ContactResponse> contactPage = new PageImpl<>(
+            List.of(contactResponse)
+        );
+
+        when(
+            contactService.fullTextSearchContacts(
+                anyLong(),
+                eq("acme.com"),
+                any()
+            )
+        ).thenReturn(contactPage);
+
+        mockMvc
+            .perform(
+                get("/api/contacts/search")
+                    .with(user(userDetails))
+                    .param("query", "acme.com")
+                    .param("mode", "FULLTEXT")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].firstName").value("Jane"));
+
+        verify(contactService, never()).searchContacts(
+            anyLong(),
+            anyString(),
+            any()
+        );
+    }
+
+    @Test
+    @WithMockUser
+    void testSearchContactSlice_FullTextMode() throws Exception {
+        when(
+            contactService.fullTextSearchContactSlice(
+                anyLong(),
+                eq("acme.com"),
+                any()
+            )
+        ).thenReturn(new SliceImpl<>(List.of(contactResponse)));
+
+        mockMvc
+            .perform(
+                get("/api/contacts/search")
+                    .with(user(userDetails))
+                    .param("query", "acme.com")
+                    .param("mode", "FULLTEXT")
+                    .param("includeTotal", "false")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].firstName").value("Jane"))
+            .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(contactService, never()).getContactSlice(
+            anyLong(),
+            any(),
+            any()
+        );
+    }
+
+    @Test
+    @WithMockUser
+    void testSearchContactsAfter_FullTextModeIsRejected() throws Exception {
+        mockMvc
+            .perform(
+                get("/api/contacts/search")
+                    .with(user(userDetails))
+                    .param("query", "acme.com")
+                    .param("mode", "FULLTEXT")
+                    .param("after", "")
+            )
+            .andExpect(status().isBadRequest());
+
+        verify(contactService, never()).getContactsAfter(
+            anyLong(),
+            any(),
+            any(),
+            anyInt()
+        );
+    }
+
     @Test
     @WithMockUser
     void testGetContactById_Success() throws Exception {
@@ -255,7 +502,8 @@ class ContactControllerTest {
             contactService.updateContact(
                 anyLong(),
                 anyLong(),
-                any(ContactRequest.class)
+                any(ContactRequest.class),
+                isNull()
             )
         ).thenReturn(contactResponse);
 
@@ -276,7 +524,8 @@ class ContactControllerTest {
         verify(contactService).updateContact(
             anyLong(),
             eq(1L),
-            any(ContactRequest.class)
+            any(ContactRequest.class),
+            isNull()
         );
     }
 
@@ -297,14 +546,17 @@ class ContactControllerTest {
         verify(contactService, never()).updateContact(
             anyLong(),
             anyLong(),
-            any(ContactRequest.class)
+            any(ContactRequest.class),
+            any()
         );
     }
 
     @Test
     @WithMockUser
     void testDeleteContact_Success() throws Exception {
-        doNothing().when(contactService).deleteContact(anyLong(), anyLong());
+        doNothing()
+            .when(contactService)
+            .deleteContact(anyLong(), anyLong(), isNull());
 
         mockMvc
             .perform(delete("/api/contacts/1").with(user(userDetails)))
@@ -314,6 +566,510 @@ class ContactControllerTest {
                 jsonPath("$.message").value("Contact deleted successfully")
             );
 
-        verify(contactService).deleteContact(anyLong(), eq(1L));
+        verify(contactService).deleteContact(anyLong(), eq(1L), isNull());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactById_SendsETag() throws Exception {
+        when(contactStatsService.getChangeVersion(1L)).thenReturn(7L);
+        when(contactService.getContactById(1L, 1L)).thenReturn(contactResponse);
+
+        mockMvc
+            .perform(get("/api/contacts/1").with(user(userDetails)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1-7-1\""))
+            .andExpect(
+                header().string("Cache-Control", containsString("no-cache"))
+            );
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactById_NotModified() throws Exception {
+        when(contactStatsService.getChangeVersion(1L)).thenReturn(7L);
+
+        mockMvc
+            .perform(
+                get("/api/contacts/1")
+                    .with(user(userDetails))
+                    .header("If-None-Match", "\"1-7-1\"")
+            )
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"1-7-1\""));
+
+        verifyNoInteractions(contactService);
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAllContacts_NotModified() throws Exception {
+        when(contactStatsService.getChangeVersion(1L)).thenReturn(7L);
+
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .header("If-None-Match", "W/\"1-7\"")
+            )
+            .andExpect(status().isNotModified());
+
+        verifyNoInteractions(contactService);
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAllContacts_ChangedSinceTag() throws Exception {
+        when(contactStatsService.getChangeVersion(1L)).thenReturn(8L);
+        when(contactService.getAllContacts(anyLong(), any())).thenReturn(
+            new PageImpl<>(List.of(contactResponse))
+        );
+
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .header("If-None-Match", "\"1-7\"")
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1-8\""))
+            .andExpect(jsonPath("$.data.content[0].firstName").value("Jane"));
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateContact_IfMatchPassesExpectedVersion() throws Exception {
+        when(
+            contactService.updateContact(
+                anyLong(),
+                anyLong(),
+                any(ContactRequest.class),
+                eq(7L)
+            )
+        ).thenReturn(contactResponse);
+
+        mockMvc
+            .perform(
+                put("/api/contacts/1")
+                    .with(user(userDetails))
+                    .header("If-Match", "\"1-7-1\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(contactRequest))
+            )
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateContact_StaleIfMatch() throws Exception {
+        when(
+            contactService.updateContact(
+                anyLong(),
+                anyLong(),
+                any(ContactRequest.class),
+                eq(6L)
+            )
+        ).thenThrow(
+            new PreconditionFailedException(
+                "Contacts were changed by another request"
+            )
+        );
+
+        mockMvc
+            .perform(
+                put("/api/contacts/1")
+                    .with(user(userDetails))
+                    .header("If-Match", "\"1-6-1\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(contactRequest))
+            )
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateContact_StaleVersionReturnsCurrentState() throws Exception {
+        contactResponse.setVersion(4L);
+        contactRequest.setVersion(3L);
+        when(
+            contactService.updateContact(
+                anyLong(),
+                anyLong(),
+                any(ContactRequest.class),
+                isNull()
+            )
+        ).thenThrow(
+            new ConflictException(
+                "Contact was changed by another request",
+                contactResponse
+            )
+        );
+
+        mockMvc
+            .perform(
+                put("/api/contacts/1")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(contactRequest))
+            )
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.data.version").value(4))
+            .andExpect(jsonPath("$.data.firstName").value("Jane"));
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateContact_ConcurrentUpdateReturnsCurrentState()
+        throws Exception {
+        contactResponse.setVersion(5L);
+        when(
+            contactService.updateContact(
+                anyLong(),
+                anyLong(),
+                any(ContactRequest.class),
+                isNull()
+            )
+        ).thenThrow(
+            new ObjectOptimisticLockingFailureException(Contact.class, 1L)
+        );
+        when(contactService.getContactById(1L, 1L)).thenReturn(contactResponse);
+
+        mockMvc
+            .perform(
+                put("/api/contacts/1")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(contactRequest))
+            )
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.data.version").value(5));
+    }
+
+    @Test
+    @WithMockUser
+    void testDeleteContact_IfMatchForOtherContact() throws Exception {
+        mockMvc
+            .perform(
+                delete("/api/contacts/1")
+                    .with(user(userDetails))
+                    .header("If-Match", "\"1-7-2\"")
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(contactService);
+    }
+
+    @Test
+    @WithMockUser
+    void testLookupPhone_Success() throws Exception {
+        PhoneLookupResponse response = PhoneLookupResponse.builder()
+            .number("(123) 456-7890")
+            .normalizedNumber("1234567890")
+            .matches(
+                List.of(
+                    PhoneLookupMatch.builder()
+                        .contactId(1L)
+                        .firstName("Jane")
+                        .lastName("Smith")
+                        .phoneId(1L)
+                        .phoneNumber("+1234567890")
+                        .type(PhoneType.WORK)
+                        .build()
+                )
+            )
+            .build();
+        when(
+            phoneLookupService.lookup(anyLong(), eq("(123) 456-7890"))
+        ).thenReturn(response);
+
+        mockMvc
+            .perform(
+                get("/api/contacts/lookup/phone")
+                    .with(user(userDetails))
+                    .param("number", "(123) 456-7890")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.normalizedNumber").value("1234567890"))
+            .andExpect(jsonPath("$.data.matches[0].contactId").value(1))
+            .andExpect(jsonPath("$.data.matches[0].firstName").value("Jane"));
+    }
+
+    @Test
+    @WithMockUser
+    void testLookupPhones_Batch() throws Exception {
+        PhoneLookupRequest request = new PhoneLookupRequest();
+        request.setNumbers(List.of("+1234567890", "555"));
+        when(phoneLookupService.lookup(anyLong(), anyList())).thenReturn(
+            List.of(
+                PhoneLookupResponse.builder()
+                    .number("+1234567890")
+                    .normalizedNumber("1234567890")
+                    .matches(List.of())
+                    .build(),
+                PhoneLookupResponse.builder()
+                    .number("555")
+                    .normalizedNumber("555")
+                    .matches(List.of())
+                    .build()
+            )
+        );
+
+        mockMvc
+            .perform(
+                post("/api/contacts/lookup/phone")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.data[1].number").value("555"));
+    }
+
+    @Test
+    @WithMockUser
+    void testLookupPhones_EmptyBatch() throws Exception {
+        PhoneLookupRequest request = new PhoneLookupRequest();
+        request.setNumbers(List.of());
+
+        mockMvc
+            .perform(
+                post("/api/contacts/lookup/phone")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+            .andExpect(status().isBadRequest());
+
+        verify(phoneLookupService, never()).lookup(anyLong(), anyList());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetStats_Success() throws Exception {
+        when(contactStatsService.getStats(anyLong())).thenReturn(
+            ContactStatsResponse.builder()
+                .totalContacts(12)
+                .contactsWithoutEmail(3)
+                .contactsWithoutPhone(5)
+                .emailsByType(Map.of(EmailType.WORK, 7L))
+                .phonesByType(Map.of(PhoneType.HOME, 4L))
+                .build()
+        );
+
+        mockMvc
+            .perform(get("/api/contacts/stats").with(user(userDetails)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.totalContacts").value(12))
+            .andExpect(jsonPath("$.data.contactsWithoutEmail").value(3))
+            .andExpect(jsonPath("$.data.emailsByType.WORK").value(7))
+            .andExpect(jsonPath("$.data.phonesByType.HOME").value(4));
+
+        verify(contactStatsService).getStats(1L);
+    }
+
+    @Test
+    @WithMockUser
+    void testRebuildStats_Success() throws Exception {
+        when(contactStatsService.rebuild(anyLong())).thenReturn(
+            ContactStatsResponse.builder().totalContacts(12).build()
+        );
+
+        mockMvc
+            .perform(post("/api/contacts/stats/rebuild").with(user(userDetails)))
+            .andExpect(status().isOk())
+            .andExpect(
+                jsonPath("$.message").value("Contact stats rebuilt successfully")
+            )
+            .andExpect(jsonPath("$.data.totalContacts").value(12));
+
+        verify(contactStatsService).rebuild(1L);
+    }
+
+    @Test
+    @WithMockUser
+    void testCreateContacts_ReportsPerItemResults() throws Exception {
+        ContactRequest invalid = new ContactRequest();
+        when(contactService.createContacts(anyLong(), anyList())).thenReturn(
+            ContactBatchResponse.builder()
+                .created(1)
+                .failed(1)
+                .results(
+                    List.of(
+                        ContactBatchItemResult.builder()
+                            .index(0)
+                            .success(true)
+                            .contact(contactResponse)
+                            .build(),
+                        ContactBatchItemResult.builder()
+                            .index(1)
+                            .success(false)
+                            .errors(
+                                Map.of("firstName", "First name is required")
+                            )
+                            .build()
+                    )
+                )
+                .build()
+        );
+
+        mockMvc
+            .perform(
+                post("/api/contacts/batch")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new ContactBatchRequest(
+                                List.of(contactRequest, invalid)
+                            )
+                        )
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.created").value(1))
+            .andExpect(jsonPath("$.data.failed").value(1))
+            .andExpect(
+                jsonPath("$.data.results[0].contact.firstName").value("Jane")
+            )
+            .andExpect(
+                jsonPath("$.data.results[1].errors.firstName").value(
+                    "First name is required"
+                )
+            );
+
+        verify(contactService).createContacts(
+            eq(1L),
+            argThat(requests -> requests.size() == 2)
+        );
+    }
+
+    @Test
+    @WithMockUser
+    void testCreateContacts_EmptyBatch() throws Exception {
+        mockMvc
+            .perform(
+                post("/api/contacts/batch")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new ContactBatchRequest(List.of())
+                        )
+                    )
+            )
+            .andExpect(status().isBadRequest());
+
+        verify(contactService, never()).createContacts(anyLong(), anyList());
+    }
+
+    @Test
+    @WithMockUser
+    void testDeleteContacts_Bulk() throws Exception {
+        when(
+            contactService.deleteContacts(anyLong(), anyList(), isNull())
+        ).thenReturn(ContactBulkResponse.builder().affected(2).build());
+
+        mockMvc
+            .perform(
+                post("/api/contacts/bulk/delete")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new ContactSelectionRequest(List.of(1L, 2L), null)
+                        )
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.affected").value(2));
+
+        verify(contactService).deleteContacts(1L, List.of(1L, 2L), null);
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateContacts_Bulk() throws Exception {
+        when(
+            contactService.updateContactTitles(
+                anyLong(),
+                isNull(),
+                eq("smith"),
+                eq("Engineer")
+            )
+        ).thenReturn(ContactBulkResponse.builder().affected(4).build());
+
+        mockMvc
+            .perform(
+                post("/api/contacts/bulk/update")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new ContactBulkUpdateRequest(
+                                null,
+                                "smith",
+                                "Engineer"
+                            )
+                        )
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.affected").value(4));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetContactsByIds_Success() throws Exception {
+        when(
+            contactService.getContactsByIds(anyLong(), eq(List.of(1L, 99L)))
+        ).thenReturn(
+            ContactMultiGetResponse.builder()
+                .contacts(List.of(contactResponse))
+                .missingIds(List.of(99L))
+                .build()
+        );
+
+        mockMvc
+            .perform(
+                get("/api/contacts")
+                    .with(user(userDetails))
+                    .param("ids", "1,99")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.contacts[0].id").value(1))
+            .andExpect(jsonPath("$.data.missingIds[0]").value(99));
+
+        verify(contactService, never()).getAllContacts(anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void testMultiGetContacts_Post() throws Exception {
+        when(contactService.getContactsByIds(anyLong(), anyList())).thenReturn(
+            ContactMultiGetResponse.builder()
+                .contacts(List.of(contactResponse))
+                .missingIds(List.of())
+                .build()
+        );
+
+        mockMvc
+            .perform(
+                post("/api/contacts/multi-get")
+                    .with(user(userDetails))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(
+                            new ContactMultiGetRequest(List.of(1L))
+                        )
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.contacts[0].firstName").value("Jane"));
+
+        verify(contactService).getContactsByIds(1L, List.of(1L));
     }
 }
@@ -3,8 +3,16 @@ package com.susa.circle.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.susa.circle.entity.Contact;
+import com.susa.circle.entity.ContactEmail;
+import com.susa.circle.entity.ContactPhone;
 import com.susa.circle.entity.User;
+import com.susa.circle.enums.ContactSortField;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import com.susa.circle.util.ContactCursor;
+import com.susa.circle.util.ContactStatsDelta;
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +36,9 @@ class ContactRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ContactPhoneRepository contactPhoneRepository;
+
     private User testUser;
     private Contact testContact1;
     private Contact testContact2;
@@ -180,4 +191,316 @@ class ContactRepositoryTest {
 
         assertFalse(exists);
     }
+
+    @Test
+    void testFindIdsAfter_WalksKeysetInSortOrder() {
+        ContactCursor cursor = ContactCursor.first(
+            ContactSortField.FIRST_NAME,
+            false
+        );
+
+        List<Long> firstPage = contactRepository.findIdsAfter(
+            testUser.getId(),
+            null,
+            cursor,
+            1
+        );
+        assertEquals(List.of(testContact2.getId()), firstPage);
+
+        ContactCursor next = new ContactCursor(
+            ContactSortField.FIRST_NAME,
+            false,
+            testContact2.getFirstName(),
+            testContact2.getId()
+        );
+        List<Long> secondPage = contactRepository.findIdsAfter(
+            testUser.getId(),
+            null,
+            next,
+            10
+        );
+        assertEquals(List.of(testContact1.getId()), secondPage);
+    }
+
+    @Test
+    void testFindIdsAfter_DescendingWithSearch() {
+        ContactCursor cursor = ContactCursor.first(
+            ContactSortField.LAST_NAME,
+            true
+        );
+
+        List<Long> ids = contactRepository.findIdsAfter(
+            testUser.getId(),
+            "o",
+            cursor,
+            10
+        );
+
+        // "o" matches Bob Johnson only; Jane Smith has no "o"
+        assertEquals(List.of(testContact2.getId()), ids);
+    }
+
+    @Test
+    void testSearchIds_IgnoresCaseAndAccents() {
+        Contact accented = entityManager.persist(
+            Contact.builder()
+                .firstName("José")
+                .lastName("Núñez")
+                .user(testUser)
+                .emails(new ArrayList<>())
+                .phones(new ArrayList<>())
+                .build()
+        );
+        entityManager.flush();
+
+        Page<Long> byFirstName = contactRepository.searchIds(
+            testUser.getId(),
+            "JOSE",
+            PageRequest.of(0, 10)
+        );
+        Page<Long> byLastName = contactRepository.searchIds(
+            testUser.getId(),
+            "nuñ",
+            PageRequest.of(0, 10)
+        );
+
+        assertEquals(List.of(accented.getId()), byFirstName.getContent());
+        assertEquals(1, byFirstName.getTotalElements());
+        assertEquals(List.of(accented.getId()), byLastName.getContent());
+    }
+
+    @Test
+    void testSearchIds_TreatsWildcardsLiterally() {
+        Page<Long> ids = contactRepository.searchIds(
+            testUser.getId(),
+            "%",
+            PageRequest.of(0, 10)
+        );
+
+        assertEquals(0, ids.getTotalElements());
+    }
+
+    @Test
+    void testFullTextSearchIds_MatchesEmailsAndPhones() {
+        Contact contact = Contact.builder()
+            .firstName("Alice")
+            .lastName("Walker")
+            .title("Director")
+            .user(testUser)
+            .emails(new ArrayList<>())
+            .phones(new ArrayList<>())
+            .build();
+        contact
+            .getEmails()
+            .add(
+                ContactEmail.builder()
+                    .email("alice@acme-corp.com")
+                    .type(EmailType.WORK)
+                    .contact(contact)
+                    .build()
+            );
+        contact
+            .getPhones()
+            .add(
+                ContactPhone.builder()
+                    .phoneNumber("+15550100")
+                    .type(PhoneType.WORK)
+                    .contact(contact)
+                    .build()
+            );
+        contact = entityManager.persist(contact);
+        entityManager.flush();
+
+        assertEquals(
+            List.of(contact.getId()),
+            fullTextSearch("acme-corp.com").getContent()
+        );
+        assertEquals(
+            List.of(contact.getId()),
+            fullTextSearch("555-0100").getContent()
+        );
+        assertEquals(
+            List.of(contact.getId()),
+            fullTextSearch("alice direct").getContent()
+        );
+        assertEquals(0, fullTextSearch("bob acme").getTotalElements());
+    }
+
+    @Test
+    void testFullTextSearchIds_RanksNameMatchesFirst() {
+        Contact byEmail = Contact.builder()
+            .firstName("Carol")
+            .lastName("Stone")
+            .user(testUser)
+            .emails(new ArrayList<>())
+            .phones(new ArrayList<>())
+            .build();
+        byEmail
+            .getEmails()
+            .add(
+                ContactEmail.builder()
+                    .email("carol@janeway.io")
+                    .type(EmailType.PERSONAL)
+                    .contact(byEmail)
+                    .build()
+            );
+        entityManager.persist(byEmail);
+        entityManager.flush();
+
+        Page<Long> ids = fullTextSearch("jane");
+
+        assertEquals(2, ids.getTotalElements());
+        assertEquals(testContact1.getId(), ids.getContent().get(0));
+    }
+
+    private Page<Long> fullTextSearch(String search) {
+        return contactRepository.fullTextSearchIds(
+            testUser.getId(),
+            search,
+            PageRequest.of(0, 10)
+        );
+    }
+
+    @Test
+    void testFindByUserIdAndNormalizedNumberIn_IgnoresFormatting() {
+        testContact1
+            .getPhones()
+            .add(
+                ContactPhone.builder()
+                    .phoneNumber("+1 (555) 010-0100")
+                    .type(PhoneType.WORK)
+                    .contact(testContact1)
+                    .build()
+            );
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ContactPhone> phones =
+            contactPhoneRepository.findByUserIdAndNormalizedNumberIn(
+                testUser.getId(),
+                List.of("0100100")
+            );
+
+        assertEquals(1, phones.size());
+        assertEquals("0100100", phones.get(0).getNormalizedNumber());
+        assertEquals("Jane", phones.get(0).getContact().getFirstName());
+        assertTrue(
+            contactPhoneRepository
+                .findByUserIdAndNormalizedNumberIn(
+                    testUser.getId() + 1,
+                    List.of("0100100")
+                )
+                .isEmpty()
+        );
+    }
+
+    @Test
+    void testDeleteByIds_RemovesChildrenAndReportsCounters() {
+        testContact1
+            .getEmails()
+            .add(
+                ContactEmail.builder()
+                    .email("jane@work.com")
+                    .type(EmailType.WORK)
+                    .contact(testContact1)
+                    .build()
+            );
+        testContact1
+            .getPhones()
+            .add(
+                ContactPhone.builder()
+                    .phoneNumber("+15550100100")
+                    .type(PhoneType.HOME)
+                    .contact(testContact1)
+                    .build()
+            );
+        entityManager.flush();
+
+        ContactStatsDelta removed = contactRepository.deleteByIds(
+            testUser.getId(),
+            List.of(testContact1.getId(), testContact2.getId(), -1L)
+        );
+
+        assertEquals(2, removed.getTotalContacts());
+        assertEquals(1, removed.getContactsWithoutEmail());
+        assertEquals(1, removed.getContactsWithoutPhone());
+        assertEquals(1, removed.getWorkEmails());
+        assertEquals(1, removed.getHomePhones());
+        assertEquals(0, contactRepository.countByUserId(testUser.getId()));
+        assertTrue(
+            contactPhoneRepository
+                .findByUserIdAndNormalizedNumberIn(
+                    testUser.getId(),
+                    List.of("0100100")
+                )
+                .isEmpty()
+        );
+    }
+
+    @Test
+    void testDeleteByIds_IgnoresOtherUsersContacts() {
+        User otherUser = entityManager.persist(
+            User.builder()
+                .firstName("Eve")
+                .lastName("Other")
+                .email("eve@example.com")
+                .password("password")
+                .active(true)
+                .contacts(new ArrayList<>())
+                .build()
+        );
+        entityManager.flush();
+
+        ContactStatsDelta removed = contactRepository.deleteByIds(
+            otherUser.getId(),
+            List.of(testContact1.getId())
+        );
+
+        assertEquals(0, removed.getTotalContacts());
+        assertEquals(2, contactRepository.countByUserId(testUser.getId()));
+    }
+
+    @Test
+    void testDeleteMatching_OnlyMatchingNames() {
+        ContactStatsDelta removed = contactRepository.deleteMatching(
+            testUser.getId(),
+            "john"
+        );
+
+        assertEquals(1, removed.getTotalContacts());
+        assertTrue(contactRepository.findById(testContact2.getId()).isEmpty());
+        assertTrue(
+            contactRepository.findById(testContact1.getId()).isPresent()
+        );
+    }
+
+    @Test
+    void testUpdateTitle_ScopedToUserAndSelection() {
+        int byIds = contactRepository.updateTitleByIds(
+            testUser.getId(),
+            List.of(testContact1.getId()),
+            "Director"
+        );
+        int bySearch = contactRepository.updateTitleMatching(
+            testUser.getId(),
+            "johnson",
+            null
+        );
+
+        assertEquals(1, byIds);
+        assertEquals(1, bySearch);
+        assertEquals(
+            "Director",
+            contactRepository
+                .findById(testContact1.getId())
+                .orElseThrow()
+                .getTitle()
+        );
+        assertNull(
+            contactRepository
+                .findById(testContact2.getId())
+                .orElseThrow()
+                .getTitle()
+        );
+    }
 }
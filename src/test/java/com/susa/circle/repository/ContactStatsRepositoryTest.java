@@ -0,0 +1,212 @@
+package com.susa.circle.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.entity.Contact;
+import com.susa.circle.entity.ContactEmail;
+import com.susa.circle.entity.ContactPhone;
+import com.susa.circle.entity.ContactStats;
+import com.susa.circle.entity.User;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import com.susa.circle.util.ContactStatsDelta;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ContactStatsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContactStatsRepository contactStatsRepository;
+
+    private User testUser;
+    private Contact withEmail;
+
+    @BeforeEach
+    void setUp() {
+        testUser = entityManager.persist(
+            User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("stats@example.com")
+                .password("password")
+                .active(true)
+                .contacts(new ArrayList<>())
+                .build()
+        );
+
+        withEmail = Contact.builder()
+            .firstName("Jane")
+            .lastName("Smith")
+            .user(testUser)
+            .emails(new ArrayList<>())
+            .phones(new ArrayList<>())
+            .build();
+        withEmail
+            .getEmails()
+            .add(
+                ContactEmail.builder()
+                    .email("jane@work.com")
+                    .type(EmailType.WORK)
+                    .contact(withEmail)
+                    .build()
+            );
+        withEmail
+            .getEmails()
+            .add(
+                ContactEmail.builder()
+                    .email("jane@home.com")
+                    .type(EmailType.PERSONAL)
+                    .contact(withEmail)
+                    .build()
+            );
+        withEmail = entityManager.persist(withEmail);
+
+        Contact withPhone = Contact.builder()
+            .firstName("Bob")
+            .lastName("Johnson")
+            .user(testUser)
+            .emails(new ArrayList<>())
+            .phones(new ArrayList<>())
+            .build();
+        withPhone
+            .getPhones()
+            .add(
+                ContactPhone.builder()
+                    .phoneNumber("+1555010100")
+                    .type(PhoneType.HOME)
+                    .contact(withPhone)
+                    .build()
+            );
+        entityManager.persist(withPhone);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void testSeed_ComputesCountersFromContacts() {
+        assertEquals(1, contactStatsRepository.seed(testUser.getId()));
+        entityManager.clear();
+
+        ContactStats stats = contactStatsRepository
+            .findById(testUser.getId())
+            .orElseThrow();
+        assertEquals(2L, stats.getTotalContacts());
+        assertEquals(1L, stats.getContactsWithoutEmail());
+        assertEquals(1L, stats.getContactsWithoutPhone());
+        assertEquals(1L, stats.getWorkEmails());
+        assertEquals(1L, stats.getPersonalEmails());
+        assertEquals(0L, stats.getOtherEmails());
+        assertEquals(1L, stats.getHomePhones());
+        assertEquals(0L, stats.getWorkPhones());
+
+        assertEquals(0, contactStatsRepository.seed(testUser.getId()));
+    }
+
+    @Test
+    void testApplyDelta_AddsToEveryCounter() {
+        contactStatsRepository.seed(testUser.getId());
+
+        int updated = contactStatsRepository.applyDelta(
+            testUser.getId(),
+            ContactStatsDelta.of(withEmail)
+        );
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        ContactStats stats = contactStatsRepository
+            .findById(testUser.getId())
+            .orElseThrow();
+        assertEquals(3L, stats.getTotalContacts());
+        assertEquals(1L, stats.getContactsWithoutEmail());
+        assertEquals(2L, stats.getContactsWithoutPhone());
+        assertEquals(2L, stats.getWorkEmails());
+        assertEquals(2L, stats.getPersonalEmails());
+    }
+
+    @Test
+    void testApplyDelta_MissingRow() {
+        assertEquals(
+            0,
+            contactStatsRepository.applyDelta(
+                testUser.getId(),
+                ContactStatsDelta.of(withEmail)
+            )
+        );
+    }
+
+    @Test
+    void testApplyDelta_MovesChangeVersion() {
+        Long userId = testUser.getId();
+        assertTrue(contactStatsRepository.findChangeVersion(userId).isEmpty());
+
+        contactStatsRepository.seed(userId);
+        assertEquals(
+            1L,
+            contactStatsRepository.findChangeVersion(userId).orElseThrow()
+        );
+
+        contactStatsRepository.applyDelta(userId, ContactStatsDelta.none());
+        entityManager.clear();
+        assertEquals(
+            2L,
+            contactStatsRepository.findChangeVersion(userId).orElseThrow()
+        );
+    }
+
+    @Test
+    void testClaimChangeVersion_MatchesOnlyCurrentVersion() {
+        Long userId = testUser.getId();
+        contactStatsRepository.seed(userId);
+
+        assertEquals(0, contactStatsRepository.claimChangeVersion(userId, 0L));
+        assertEquals(1, contactStatsRepository.claimChangeVersion(userId, 1L));
+        // Claiming does not move the version
+        assertEquals(
+            1L,
+            contactStatsRepository.findChangeVersion(userId).orElseThrow()
+        );
+    }
+
+    @Test
+    void testRebuild_CorrectsDrift() {
+        contactStatsRepository.seed(testUser.getId());
+        contactStatsRepository.applyDelta(
+            testUser.getId(),
+            ContactStatsDelta.of(withEmail)
+        );
+
+        contactStatsRepository.rebuild(testUser.getId());
+
+        ContactStats stats = contactStatsRepository
+            .findById(testUser.getId())
+            .orElseThrow();
+        assertEquals(2L, stats.getTotalContacts());
+        assertEquals(1L, stats.getWorkEmails());
+        assertEquals(1L, stats.getContactsWithoutPhone());
+        // Seeded at 1, moved by the delta and again by the correction
+        assertEquals(3L, stats.getChangeVersion());
+    }
+
+    @Test
+    void testRebuild_KeepsChangeVersionWithoutDrift() {
+        Long userId = testUser.getId();
+        contactStatsRepository.seed(userId);
+
+        contactStatsRepository.rebuild(userId);
+
+        assertEquals(
+            1L,
+            contactStatsRepository.findChangeVersion(userId).orElseThrow()
+        );
+    }
+}
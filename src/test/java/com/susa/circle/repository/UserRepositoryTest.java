@@ -137,4 +137,25 @@ class UserRepositoryTest {
         assertEquals("Bob", saved.getFirstName());
         assertEquals("+9876543210", saved.getPhoneNumber());
     }
+
+    @Test
+    void testFindActiveCredentialVersion_ActiveUser() {
+        Optional<Integer> version = userRepository.findActiveCredentialVersion(
+            testUser.getId()
+        );
+
+        assertEquals(Optional.of(0), version);
+    }
+
+    @Test
+    void testFindActiveCredentialVersion_InactiveUser() {
+        testUser.setActive(false);
+        entityManager.flush();
+
+        Optional<Integer> version = userRepository.findActiveCredentialVersion(
+            testUser.getId()
+        );
+
+        assertTrue(version.isEmpty());
+    }
 }
@@ -0,0 +1,280 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AuthRateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AuthRateLimitFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "ipCapacity", 10);
+        ReflectionTestUtils.setField(filter, "ipRefillPerMinute", 10);
+        ReflectionTestUtils.setField(filter, "usernameCapacity", 2);
+        ReflectionTestUtils.setField(filter, "usernameRefillPerMinute", 2);
+        ReflectionTestUtils.setField(filter, "availabilityCapacity", 3);
+        ReflectionTestUtils.setField(
+            filter,
+            "availabilityRefillPerMinute",
+            3
+        );
+        ReflectionTestUtils.setField(filter, "maxKeys", 1000);
+        ReflectionTestUtils.setField(filter, "stripes", 4);
+        filter.init();
+    }
+
+    @Test
+    void testLogin_LimitsPerUsername() throws Exception {
+        assertEquals(200, login("10.0.0.1", "john@example.com").getStatus());
+        assertEquals(200, login("10.0.0.2", "John@Example.com").getStatus());
+
+        MockHttpServletResponse limited = login("10.0.0.3", "john@example.com");
+
+        assertEquals(429, limited.getStatus());
+        assertNotNull(limited.getHeader("Retry-After"));
+        assertEquals(200, login("10.0.0.3", "jane@example.com").getStatus());
+        assertEquals(
+            1.0,
+            meterRegistry
+                .get("auth.rate-limit.rejected")
+                .tag("key", "username")
+                .counter()
+                .count()
+        );
+    }
+
+    @Test
+    void testLogin_LimitsPerIp() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(
+                200,
+                login("10.0.0.1", "user" + i + "@example.com").getStatus()
+            );
+        }
+
+        assertEquals(429, login("10.0.0.1", "new@example.com").getStatus());
+        assertEquals(200, login("10.0.0.2", "new@example.com").getStatus());
+    }
+
+    @Test
+    void testLogin_ReplaysBody() throws Exception {
+        MockHttpServletRequest request = loginRequest(
+            "10.0.0.1",
+            "john@example.com"
+        );
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        String body = new String(
+            chain.getRequest().getInputStream().readAllBytes(),
+            StandardCharsets.UTF_8
+        );
+        assertTrue(body.contains("john@example.com"));
+    }
+
+    @Test
+    void testLogin_LimitsForwardedClientsBehindProxy() throws Exception {
+        RemoteIpFilter remoteIp = remoteIpFilter();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(
+                200,
+                login(remoteIp, "10.0.0.1", "203.0.113.1", "user" + i)
+            );
+        }
+
+        // The balancer is one remote address, but each client has its bucket
+        assertEquals(429, login(remoteIp, "10.0.0.1", "203.0.113.1", "new"));
+        assertEquals(200, login(remoteIp, "10.0.0.1", "203.0.113.2", "new"));
+    }
+
+    @Test
+    void testLogin_IgnoresForwardedForFromUntrustedClients() throws Exception {
+        RemoteIpFilter remoteIp = remoteIpFilter();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(
+                200,
+                login(remoteIp, "198.51.100.7", "203.0.113." + i, "user" + i)
+            );
+        }
+
+        // Rotating the header does not get a direct client a fresh bucket
+        assertEquals(
+            429,
+            login(remoteIp, "198.51.100.7", "203.0.113.99", "new")
+        );
+    }
+
+    @Test
+    void testLogin_RejectsOversizedBody() throws Exception {
+        MockHttpServletRequest request = loginRequest(
+            "10.0.0.1",
+            "x".repeat(5000)
+        );
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testLogin_ReplaysBodyToReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(
+            loginRequest("10.0.0.1", "john@example.com"),
+            new MockHttpServletResponse(),
+            chain
+        );
+        ServletInputStream input = chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] allRead = new boolean[1];
+
+        input.setReadListener(
+            new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead[0] = true;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            }
+        );
+
+        assertTrue(allRead[0]);
+        assertTrue(
+            read.toString(StandardCharsets.UTF_8).contains("john@example.com")
+        );
+    }
+
+    @Test
+    void testAvailability_LimitsPerIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, availability("10.0.0.1", "user" + i).getStatus());
+        }
+
+        MockHttpServletResponse limited = availability("10.0.0.1", "new");
+
+        assertEquals(429, limited.getStatus());
+        assertNotNull(limited.getHeader("Retry-After"));
+        assertEquals(200, availability("10.0.0.2", "new").getStatus());
+        // Login attempts are counted separately
+        assertEquals(200, login("10.0.0.1", "john@example.com").getStatus());
+    }
+
+    @Test
+    void testOtherEndpoints_AreNotLimited() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest(
+                "GET",
+                "/api/contacts"
+            );
+            request.setServletPath("/api/contacts");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse login(String ip, String username)
+        throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(
+            loginRequest(ip, username),
+            response,
+            new MockFilterChain()
+        );
+        return response;
+    }
+
+    // Applies the same rules as the valve server.forward-headers-strategy
+    // installs: X-Forwarded-For is trusted from internal proxies only
+    private static RemoteIpFilter remoteIpFilter() throws Exception {
+        RemoteIpFilter remoteIp = new RemoteIpFilter();
+        remoteIp.init(new MockFilterConfig());
+        return remoteIp;
+    }
+
+    private int login(
+        RemoteIpFilter remoteIp,
+        String remoteAddr,
+        String forwardedFor,
+        String username
+    ) throws Exception {
+        MockHttpServletRequest request = loginRequest(
+            remoteAddr,
+            username + "@example.com"
+        );
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        remoteIp.doFilter(request, response, (forwarded, res) ->
+            filter.doFilter(forwarded, res, new MockFilterChain())
+        );
+        return response.getStatus();
+    }
+
+    private MockHttpServletResponse availability(String ip, String name)
+        throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(
+            "GET",
+            "/api/auth/availability"
+        );
+        request.setServletPath("/api/auth/availability");
+        request.setRemoteAddr(ip);
+        request.setParameter("email", name + "@example.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest loginRequest(String ip, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest(
+            "POST",
+            "/api/auth/login"
+        );
+        request.setServletPath("/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(
+            (
+                "{\"username\":\"" +
+                username +
+                "\",\"password\":\"password123\"}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return request;
+    }
+}
@@ -0,0 +1,174 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlockingEncoder delegate;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = new BlockingEncoder();
+        encoder = new BoundedPasswordEncoder(
+            delegate,
+            1,
+            1,
+            5000L,
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void testEncodeAndMatches_RunOnHashingThread() {
+        delegate.release.countDown();
+
+        assertEquals("hashed:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertTrue(delegate.lastThread.startsWith("password-hash-"));
+        assertEquals(
+            1,
+            meterRegistry
+                .get("auth.password.hash")
+                .tag("operation", "encode")
+                .timer()
+                .count()
+        );
+        assertEquals(
+            1,
+            meterRegistry
+                .get("auth.password.hash")
+                .tag("operation", "matches")
+                .timer()
+                .count()
+        );
+    }
+
+    @Test
+    void testEncode_FullQueueFailsFast() throws Exception {
+        // One call occupies the only thread, the next one fills the queue
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() ->
+            encoder.encode("first")
+        );
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() ->
+            encoder.encode("second")
+        );
+        waitForQueued(1);
+
+        assertThrows(ServiceUnavailableException.class, () ->
+            encoder.encode("third")
+        );
+        assertEquals(
+            1.0,
+            meterRegistry
+                .get("auth.password.hash.rejected")
+                .tag("reason", "queue-full")
+                .counter()
+                .count()
+        );
+
+        delegate.release.countDown();
+        assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testEncode_TimesOut() {
+        encoder.close();
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(
+            delegate,
+            1,
+            1,
+            50L,
+            meterRegistry
+        );
+
+        assertThrows(ServiceUnavailableException.class, () ->
+            encoder.encode("slow")
+        );
+        assertEquals(
+            1.0,
+            meterRegistry
+                .get("auth.password.hash.rejected")
+                .tag("reason", "timeout")
+                .counter()
+                .count()
+        );
+    }
+
+    @Test
+    void testMatches_PropagatesDelegateFailure() {
+        delegate.release.countDown();
+
+        assertThrows(IllegalArgumentException.class, () ->
+            encoder.matches("secret", null)
+        );
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            double queued = meterRegistry
+                .get("executor.queued")
+                .tag("name", "passwordHashing")
+                .gauge()
+                .value();
+            if (queued >= expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Hash request was never queued");
+    }
+
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile String lastThread;
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encoded) {
+            if (encoded == null) {
+                throw new IllegalArgumentException("No hash to compare");
+            }
+            await();
+            return encoded.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            lastThread = Thread.currentThread().getName();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
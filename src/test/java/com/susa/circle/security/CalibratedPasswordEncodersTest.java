@@ -0,0 +1,146 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class CalibratedPasswordEncodersTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Test
+    void testCreate_BCryptPrefixesNewHashes() {
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(
+            "bcrypt",
+            200,
+            10
+        );
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$10$"));
+        assertTrue(encoder.matches(PASSWORD, hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void testCreate_LegacyHashMatchesAndUpgrades() {
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(
+            "bcrypt",
+            200,
+            10
+        );
+        String legacy = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void testCreate_UpgradesOnlyWeakerCosts() {
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(
+            "bcrypt",
+            200,
+            11
+        );
+        String weaker =
+            "{bcrypt}" + new BCryptPasswordEncoder(10).encode(PASSWORD);
+        String stronger =
+            "{bcrypt}" + new BCryptPasswordEncoder(12).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, weaker));
+        assertTrue(encoder.upgradeEncoding(weaker));
+        // A faster node's hash is kept rather than weakened
+        assertTrue(encoder.matches(PASSWORD, stronger));
+        assertFalse(encoder.upgradeEncoding(stronger));
+    }
+
+    @Test
+    void testCreate_Argon2KeepsBCryptHashesReadable() {
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(
+            "argon2",
+            200,
+            2
+        );
+        String bcrypt =
+            "{bcrypt}" + new BCryptPasswordEncoder(10).encode(PASSWORD);
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertTrue(hash.startsWith("{argon2}$argon2id$"));
+        assertTrue(encoder.matches(PASSWORD, hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+        assertTrue(encoder.matches(PASSWORD, bcrypt));
+        assertTrue(encoder.upgradeEncoding(bcrypt));
+    }
+
+    @Test
+    void testCreate_Argon2UpgradesOtherParameters() {
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(
+            "argon2",
+            200,
+            3
+        );
+        String older =
+            "{argon2}" +
+            new Argon2PasswordEncoder(16, 32, 1, 19 * 1024, 2).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, older));
+        assertTrue(encoder.upgradeEncoding(older));
+    }
+
+    @Test
+    void testCreate_Argon2KeepsMoreIterations() {
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(
+            "argon2",
+            200,
+            2
+        );
+        String stronger =
+            "{argon2}" +
+            new Argon2PasswordEncoder(16, 32, 1, 19 * 1024, 3).encode(PASSWORD);
+        String otherMemory =
+            "{argon2}" +
+            new Argon2PasswordEncoder(16, 32, 1, 16 * 1024, 3).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, stronger));
+        assertFalse(encoder.upgradeEncoding(stronger));
+        assertTrue(encoder.upgradeEncoding(otherMemory));
+    }
+
+    @Test
+    void testCreate_UnknownAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () ->
+            CalibratedPasswordEncoders.create("md5", 200, 0)
+        );
+    }
+
+    @Test
+    void testCalibrateBCryptStrength_StaysWithinBounds() {
+        assertEquals(
+            CalibratedPasswordEncoders.MIN_BCRYPT_STRENGTH,
+            CalibratedPasswordEncoders.calibrateBCryptStrength(1)
+        );
+        assertEquals(
+            CalibratedPasswordEncoders.MAX_BCRYPT_STRENGTH,
+            CalibratedPasswordEncoders.calibrateBCryptStrength(Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void testCalibrateArgon2Iterations_StaysWithinBounds() {
+        assertEquals(
+            CalibratedPasswordEncoders.MIN_ARGON2_ITERATIONS,
+            CalibratedPasswordEncoders.calibrateArgon2Iterations(1)
+        );
+        assertEquals(
+            CalibratedPasswordEncoders.MAX_ARGON2_ITERATIONS,
+            CalibratedPasswordEncoders.calibrateArgon2Iterations(
+                Long.MAX_VALUE
+            )
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.susa.circle.event.UserChangedEvent;
+import com.susa.circle.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialVersionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CredentialVersionService credentialVersionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(
+            credentialVersionService,
+            "ttlMillis",
+            60000L
+        );
+        ReflectionTestUtils.setField(
+            credentialVersionService,
+            "maxEntries",
+            100L
+        );
+        credentialVersionService.init();
+    }
+
+    @Test
+    void testIsCurrent_MatchingVersion() {
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.of(2)
+        );
+
+        assertTrue(credentialVersionService.isCurrent(1L, 2));
+    }
+
+    @Test
+    void testIsCurrent_StaleVersion() {
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.of(3)
+        );
+
+        assertFalse(credentialVersionService.isCurrent(1L, 2));
+    }
+
+    @Test
+    void testIsCurrent_InactiveUser() {
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.empty()
+        );
+
+        assertFalse(credentialVersionService.isCurrent(1L, 0));
+    }
+
+    @Test
+    void testIsCurrent_CachesVersion() {
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.of(2)
+        );
+
+        credentialVersionService.isCurrent(1L, 2);
+        credentialVersionService.isCurrent(1L, 2);
+        credentialVersionService.isCurrent(1L, 1);
+
+        verify(userRepository, times(1)).findActiveCredentialVersion(1L);
+    }
+
+    @Test
+    void testIsCurrent_ReloadsAfterExpiry() {
+        ReflectionTestUtils.setField(credentialVersionService, "ttlMillis", 0L);
+        credentialVersionService.init();
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.of(2)
+        );
+
+        credentialVersionService.isCurrent(1L, 2);
+        credentialVersionService.isCurrent(1L, 2);
+
+        verify(userRepository, times(2)).findActiveCredentialVersion(1L);
+    }
+
+    @Test
+    void testIsCurrent_StaysWithinMaxEntries() {
+        ReflectionTestUtils.setField(
+            credentialVersionService,
+            "maxEntries",
+            2L
+        );
+        credentialVersionService.init();
+        when(userRepository.findActiveCredentialVersion(anyLong())).thenReturn(
+            Optional.of(0)
+        );
+
+        for (long userId = 1; userId <= 50; userId++) {
+            credentialVersionService.isCurrent(userId, 0);
+        }
+
+        Cache<?, ?> versions = (Cache<?, ?>) ReflectionTestUtils.getField(
+            credentialVersionService,
+            "versions"
+        );
+        versions.cleanUp();
+        assertTrue(versions.estimatedSize() <= 2);
+    }
+
+    @Test
+    void testOnUserChanged_ReloadsVersion() {
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.of(2),
+            Optional.of(3)
+        );
+
+        assertTrue(credentialVersionService.isCurrent(1L, 2));
+        credentialVersionService.onUserChanged(
+            new UserChangedEvent(1L, "john@example.com", null)
+        );
+
+        assertFalse(credentialVersionService.isCurrent(1L, 2));
+        assertTrue(credentialVersionService.isCurrent(1L, 3));
+    }
+}
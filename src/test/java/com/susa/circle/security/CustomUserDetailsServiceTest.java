@@ -0,0 +1,82 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.susa.circle.entity.User;
+import com.susa.circle.event.UserChangedEvent;
+import com.susa.circle.repository.UserRepository;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserPrincipalCache principalCache;
+
+    @Mock
+    private RegisteredUsernames registeredUsernames;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    void testUpdatePassword_StoresHashAndEvictsPrincipal() {
+        User user = User.builder()
+            .id(1L)
+            .firstName("John")
+            .lastName("Doe")
+            .email("john@example.com")
+            .password("$2a$10$old")
+            .credentialVersion(2)
+            .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        UserDetails updated = userDetailsService.updatePassword(
+            CustomUserDetails.build(user),
+            "{bcrypt}$2a$12$new"
+        );
+
+        assertEquals("{bcrypt}$2a$12$new", updated.getPassword());
+        assertEquals("{bcrypt}$2a$12$new", user.getPassword());
+        // A rehash is not a credential change
+        assertEquals(2, user.getCredentialVersion());
+        verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void testLoadUserByUsername_UnknownNameSkipsDatabase() {
+        when(
+            principalCache.getByUsername(eq("nobody@example.com"), any())
+        ).thenAnswer(invocation -> {
+            Function<String, CustomUserDetails> loader =
+                invocation.getArgument(1);
+            return loader.apply("nobody@example.com");
+        });
+        when(registeredUsernames.mightExist("nobody@example.com")).thenReturn(
+            false
+        );
+
+        assertThrows(UsernameNotFoundException.class, () ->
+            userDetailsService.loadUserByUsername("nobody@example.com")
+        );
+
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,112 @@
+package com.susa.circle.security;
+
+import static org.mockito.Mockito.*;
+
+import com.susa.circle.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures the authentication filter's overhead per request, with and
+ * without the verified-token cache. The credential version lookup is served
+ * from its cache, so no repository call is part of the measured path.
+ *
+ * Run with: ./mvnw -Pbenchmark -DskipTests verify
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({ "0", "10000" })
+    private long verifiedCacheMaxSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    private final FilterChain chain = (request, response) -> {};
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(
+            jwtUtil,
+            "secret",
+            "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970"
+        );
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(
+            jwtUtil,
+            "verifiedCacheMaxSize",
+            verifiedCacheMaxSize
+        );
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtlMillis", 60000L);
+        jwtUtil.init();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findActiveCredentialVersion(1L)).thenReturn(
+            Optional.of(0)
+        );
+        CredentialVersionService credentialVersionService =
+            new CredentialVersionService(userRepository);
+        ReflectionTestUtils.setField(
+            credentialVersionService,
+            "ttlMillis",
+            3600000L
+        );
+        ReflectionTestUtils.setField(
+            credentialVersionService,
+            "maxEntries",
+            1000L
+        );
+        credentialVersionService.init();
+
+        UserPrincipalCache principalCache = new UserPrincipalCache(
+            new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(principalCache, "maxSize", 1000L);
+        ReflectionTestUtils.setField(principalCache, "ttlMillis", 60000L);
+        principalCache.init();
+
+        filter = new JwtAuthenticationFilter(
+            jwtUtil,
+            new CustomUserDetailsService(
+                userRepository,
+                principalCache,
+                new RegisteredUsernames(userRepository),
+                event -> {}
+            ),
+            credentialVersionService
+        );
+        authorization =
+            "Bearer " +
+            jwtUtil.generateToken(
+                new CustomUserDetails(1L, "user@example.com", null, true, 0)
+            );
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(
+            "GET",
+            "/api/contacts"
+        );
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.susa.circle.security;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import java.util.Date;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -24,12 +28,14 @@ class JwtUtilTest {
             "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970"
         );
         ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        jwtUtil.init();
 
         userDetails = new CustomUserDetails(
             1L,
             "test@example.com",
             "password",
-            true
+            true,
+            3
         );
     }
 
@@ -116,4 +122,71 @@ class JwtUtilTest {
         // Should be approximately 24 hours (86400000 ms)
         assertTrue(timeDiff > 86000000L && timeDiff <= 86400000L);
     }
+
+    @Test
+    void testParseUserDetails_ReadsIdAndVersionClaims() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        CustomUserDetails parsed = jwtUtil.parseUserDetails(token);
+
+        assertEquals(1L, parsed.getId());
+        assertEquals("test@example.com", parsed.getUsername());
+        assertEquals(3, parsed.getCredentialVersion());
+        assertNull(parsed.getPassword());
+        assertTrue(parsed.isEnabled());
+    }
+
+    @Test
+    void testParseUserDetails_TokenWithoutClaims() {
+        String token = jwtUtil.generateToken(
+            User.withUsername("test@example.com").password("password").build()
+        );
+
+        assertNull(jwtUtil.parseUserDetails(token));
+    }
+
+    @Test
+    void testParseUserDetails_TamperedToken() {
+        String token = jwtUtil.generateToken(userDetails);
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "x." + parts[2];
+
+        assertThrows(JwtException.class, () ->
+            jwtUtil.parseUserDetails(forged)
+        );
+    }
+
+    @Test
+    void testVerify_WithoutCacheParsesEveryTime() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertNotSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void testVerify_CacheReturnsVerifiedClaims() {
+        enableVerifiedCache();
+        String token = jwtUtil.generateToken(userDetails);
+
+        Claims first = jwtUtil.verify(token);
+
+        assertSame(first, jwtUtil.verify(token));
+        assertEquals("test@example.com", first.getSubject());
+    }
+
+    @Test
+    void testVerify_CacheRejectsExpiredToken() {
+        enableVerifiedCache();
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1L);
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    private void enableVerifiedCache() {
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtlMillis", 60000L);
+        jwtUtil.init();
+    }
 }
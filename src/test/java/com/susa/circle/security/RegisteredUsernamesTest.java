@@ -0,0 +1,132 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.susa.circle.event.UserChangedEvent;
+import com.susa.circle.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredUsernamesTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RegisteredUsernames registeredUsernames;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registeredUsernames, "enabled", true);
+        ReflectionTestUtils.setField(
+            registeredUsernames,
+            "expectedInsertions",
+            1000L
+        );
+        ReflectionTestUtils.setField(
+            registeredUsernames,
+            "falsePositiveRate",
+            0.001
+        );
+    }
+
+    @Test
+    void testMightExist_BeforeFirstBuild() {
+        assertTrue(registeredUsernames.mightExist("nobody@example.com"));
+    }
+
+    @Test
+    void testRebuild_LoadsRegisteredNames() {
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.findUsernamesAfter(0L, Limit.of(10000))).thenReturn(
+            List.of(usernames(1L, "john@example.com", "+1234567890"))
+        );
+
+        registeredUsernames.rebuild();
+
+        assertTrue(registeredUsernames.mightExist("john@example.com"));
+        assertTrue(registeredUsernames.mightExist("+1234567890"));
+        assertFalse(registeredUsernames.mightExist("nobody@example.com"));
+    }
+
+    @Test
+    void testOnUserChanged_AddsNewNames() {
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.findUsernamesAfter(0L, Limit.of(10000))).thenReturn(
+            List.of()
+        );
+        registeredUsernames.rebuild();
+
+        registeredUsernames.onUserChanged(
+            new UserChangedEvent(2L, "jane@example.com", null)
+        );
+
+        assertTrue(registeredUsernames.mightExist("jane@example.com"));
+    }
+
+    @Test
+    void testOnDisconnected_AnswersMaybeUntilRebuilt() {
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.findUsernamesAfter(0L, Limit.of(10000))).thenReturn(
+            List.of()
+        );
+        registeredUsernames.invalidateAll();
+        assertFalse(registeredUsernames.mightExist("jane@example.com"));
+
+        registeredUsernames.onDisconnected();
+
+        // Registered on another node while this one was not listening
+        assertTrue(registeredUsernames.mightExist("jane@example.com"));
+
+        when(userRepository.findUsernamesAfter(0L, Limit.of(10000))).thenReturn(
+            List.of(usernames(2L, "jane@example.com", null))
+        );
+        registeredUsernames.invalidateAll();
+        assertTrue(registeredUsernames.mightExist("jane@example.com"));
+        assertFalse(registeredUsernames.mightExist("nobody@example.com"));
+    }
+
+    @Test
+    void testRebuild_FailureKeepsAnsweringMaybe() {
+        when(userRepository.count()).thenThrow(
+            new DataAccessResourceFailureException("down")
+        );
+
+        registeredUsernames.rebuild();
+
+        assertTrue(registeredUsernames.mightExist("nobody@example.com"));
+    }
+
+    private UserRepository.Usernames usernames(
+        Long id,
+        String email,
+        String phoneNumber
+    ) {
+        return new UserRepository.Usernames() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return phoneNumber;
+            }
+        };
+    }
+}
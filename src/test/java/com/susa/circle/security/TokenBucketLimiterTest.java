@@ -0,0 +1,89 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testTryAcquire_AllowsBurstThenRejects() {
+        TokenBucketLimiter limiter = limiter(3, 60, 100);
+
+        assertEquals(0, limiter.tryAcquire("john"));
+        assertEquals(0, limiter.tryAcquire("john"));
+        assertEquals(0, limiter.tryAcquire("john"));
+
+        // One token per second at 60 per minute
+        assertEquals(1000, limiter.tryAcquire("john"));
+    }
+
+    @Test
+    void testTryAcquire_Refills() {
+        TokenBucketLimiter limiter = limiter(1, 60, 100);
+
+        assertEquals(0, limiter.tryAcquire("john"));
+        assertTrue(limiter.tryAcquire("john") > 0);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(0, limiter.tryAcquire("john"));
+    }
+
+    @Test
+    void testTryAcquire_KeysAreIndependent() {
+        TokenBucketLimiter limiter = limiter(1, 60, 100);
+
+        assertEquals(0, limiter.tryAcquire("john"));
+        assertTrue(limiter.tryAcquire("john") > 0);
+
+        assertEquals(0, limiter.tryAcquire("jane"));
+    }
+
+    @Test
+    void testTryAcquire_BoundsKeys() {
+        TokenBucketLimiter limiter = limiter(1, 60, 10);
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("user" + i);
+        }
+
+        assertTrue(limiter.size() <= 10);
+    }
+
+    @Test
+    void testTryAcquire_EvictsIdleBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(
+            1,
+            60,
+            100,
+            1,
+            now::get
+        );
+        limiter.tryAcquire("john");
+        limiter.tryAcquire("jane");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("joe");
+
+        assertEquals(1, limiter.size());
+    }
+
+    private TokenBucketLimiter limiter(
+        int capacity,
+        int refillPerMinute,
+        int maxKeys
+    ) {
+        return new TokenBucketLimiter(
+            capacity,
+            refillPerMinute,
+            maxKeys,
+            4,
+            now::get
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package com.susa.circle.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new UserPrincipalCache(meterRegistry);
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(principalCache, "ttlMillis", 60000L);
+        principalCache.init();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGetByUsername_LoadsOnce() {
+        CustomUserDetails first = principalCache.getByUsername(
+            "john@example.com",
+            this::load
+        );
+        CustomUserDetails second = principalCache.getByUsername(
+            "john@example.com",
+            this::load
+        );
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGetById_LoadsOnce() {
+        principalCache.getById(1L, id -> load("john@example.com"));
+        principalCache.getById(1L, id -> load("john@example.com"));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGetByUsername_FailedLoadIsNotCached() {
+        assertThrows(UsernameNotFoundException.class, () ->
+            principalCache.getByUsername("nobody@example.com", username -> {
+                throw new UsernameNotFoundException(username);
+            })
+        );
+
+        principalCache.getByUsername("nobody@example.com", this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testOnUserChanged_EvictsEveryKey() {
+        principalCache.getByUsername("john@example.com", this::load);
+        principalCache.getByUsername("+1234567890", this::load);
+        principalCache.getById(1L, id -> load("john@example.com"));
+
+        principalCache.onUserChanged(
+            new UserChangedEvent(1L, "john@example.com", "+1234567890")
+        );
+        principalCache.getByUsername("john@example.com", this::load);
+        principalCache.getByUsername("+1234567890", this::load);
+        principalCache.getById(1L, id -> load("john@example.com"));
+
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    void testMetrics_RecordHitsAndMisses() {
+        principalCache.getByUsername("john@example.com", this::load);
+        principalCache.getByUsername("john@example.com", this::load);
+
+        assertEquals(
+            1.0,
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "userPrincipalsByUsername")
+                .tag("result", "hit")
+                .functionCounter()
+                .count()
+        );
+        assertEquals(
+            1.0,
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "userPrincipalsByUsername")
+                .tag("result", "miss")
+                .functionCounter()
+                .count()
+        );
+    }
+
+    private CustomUserDetails load(String username) {
+        loads.incrementAndGet();
+        return new CustomUserDetails(1L, username, "password", true, 0);
+    }
+}
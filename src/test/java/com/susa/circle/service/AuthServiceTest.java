@@ -7,15 +7,19 @@ import static org.mockito.Mockito.*;
 
 import com.susa.circle.dto.request.ChangePasswordRequest;
 import com.susa.circle.dto.request.LoginRequest;
+import com.susa.circle.dto.request.RefreshTokenRequest;
 import com.susa.circle.dto.request.RegisterRequest;
 import com.susa.circle.dto.response.AuthResponse;
+import com.susa.circle.dto.response.AvailabilityResponse;
 import com.susa.circle.dto.response.UserResponse;
 import com.susa.circle.entity.User;
+import com.susa.circle.event.UserChangedEvent;
 import com.susa.circle.exception.BadRequestException;
 import com.susa.circle.exception.ResourceNotFoundException;
 import com.susa.circle.repository.UserRepository;
 import com.susa.circle.security.CustomUserDetails;
 import com.susa.circle.security.JwtUtil;
+import com.susa.circle.security.RegisteredUsernames;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -44,6 +49,15 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private RegisteredUsernames registeredUsernames;
+
     @InjectMocks
     private AuthService authService;
 
@@ -94,6 +108,7 @@ class AuthServiceTest {
         verify(userRepository).existsByEmail("john@example.com");
         verify(userRepository).save(any(User.class));
         verify(jwtUtil).generateToken(any());
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
     }
 
     @Test
@@ -128,6 +143,50 @@ class AuthServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    void testRegister_ChecksDatabaseWithoutUsernameFilter() {
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userRepository.existsByPhoneNumber(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        authService.register(registerRequest);
+
+        verify(userRepository).existsByEmail("john@example.com");
+        verify(userRepository).existsByPhoneNumber("+1234567890");
+        verifyNoInteractions(registeredUsernames);
+    }
+
+    @Test
+    void testCheckAvailability() {
+        when(registeredUsernames.mightExist("john@example.com")).thenReturn(
+            true
+        );
+        when(userRepository.existsByEmail("john@example.com")).thenReturn(true);
+        when(registeredUsernames.mightExist("+1987654321")).thenReturn(false);
+
+        AvailabilityResponse response = authService.checkAvailability(
+            "john@example.com",
+            "+1987654321"
+        );
+
+        assertFalse(response.getEmailAvailable());
+        assertTrue(response.getPhoneNumberAvailable());
+        verify(userRepository, never()).existsByPhoneNumber(anyString());
+    }
+
+    @Test
+    void testCheckAvailability_OnlyAskedFields() {
+        AvailabilityResponse response = authService.checkAvailability(
+            null,
+            ""
+        );
+
+        assertNull(response.getEmailAvailable());
+        assertNull(response.getPhoneNumberAvailable());
+        verifyNoInteractions(registeredUsernames, userRepository);
+    }
+
     @Test
     void testLogin_Success() {
         Authentication authentication = mock(Authentication.class);
@@ -141,11 +200,13 @@ class AuthServiceTest {
         when(authentication.getPrincipal()).thenReturn(userDetails);
         when(jwtUtil.generateToken(any())).thenReturn("test-token");
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
 
         AuthResponse response = authService.login(loginRequest);
 
         assertNotNull(response);
         assertEquals("test-token", response.getToken());
+        assertEquals("refresh-token", response.getRefreshToken());
         assertNotNull(response.getUser());
         assertEquals("John", response.getUser().getFirstName());
 
@@ -171,6 +232,53 @@ class AuthServiceTest {
             any(UsernamePasswordAuthenticationToken.class)
         );
         verify(jwtUtil, never()).generateToken(any());
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    void testRefresh_Success() {
+        when(refreshTokenService.rotate("old-refresh")).thenReturn(
+            new RefreshTokenService.Rotation(1L, "new-refresh")
+        );
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(jwtUtil.generateToken(any())).thenReturn("new-token");
+
+        AuthResponse response = authService.refresh(
+            new RefreshTokenRequest("old-refresh")
+        );
+
+        assertEquals("new-token", response.getToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        assertEquals("John", response.getUser().getFirstName());
+        verifyNoInteractions(authenticationManager, passwordEncoder);
+    }
+
+    @Test
+    void testRefresh_InvalidToken() {
+        when(refreshTokenService.rotate("stolen")).thenThrow(
+            new BadCredentialsException("Invalid refresh token")
+        );
+
+        assertThrows(BadCredentialsException.class, () ->
+            authService.refresh(new RefreshTokenRequest("stolen"))
+        );
+
+        verify(jwtUtil, never()).generateToken(any());
+    }
+
+    @Test
+    void testRefresh_InactiveUser() {
+        testUser.setActive(false);
+        when(refreshTokenService.rotate("old-refresh")).thenReturn(
+            new RefreshTokenService.Rotation(1L, "new-refresh")
+        );
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        assertThrows(BadCredentialsException.class, () ->
+            authService.refresh(new RefreshTokenRequest("old-refresh"))
+        );
+
+        verify(jwtUtil, never()).generateToken(any());
     }
 
     @Test
@@ -187,13 +295,21 @@ class AuthServiceTest {
             "newEncodedPassword"
         );
         when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(jwtUtil.generateToken(any())).thenReturn("new-token");
+        when(refreshTokenService.issue(1L)).thenReturn("new-refresh");
 
-        assertDoesNotThrow(() -> authService.changePassword(1L, request));
+        AuthResponse response = authService.changePassword(1L, request);
 
+        assertEquals("new-token", response.getToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        verify(refreshTokenService).revokeAll(1L);
+        assertEquals("newEncodedPassword", testUser.getPassword());
+        assertEquals(1, testUser.getCredentialVersion());
         verify(userRepository).findById(1L);
         verify(passwordEncoder).matches("password123", "encodedPassword");
         verify(passwordEncoder).encode("newpassword123");
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
     }
 
     @Test
@@ -234,6 +350,7 @@ class AuthServiceTest {
         verify(userRepository).findById(1L);
         verify(passwordEncoder).matches("wrongpassword", "encodedPassword");
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -0,0 +1,240 @@
+package com.susa.circle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.dto.request.ContactRequest;
+import com.susa.circle.dto.request.EmailRequest;
+import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.dto.response.EmailResponse;
+import com.susa.circle.entity.User;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.exception.ConflictException;
+import com.susa.circle.repository.ContactStatsRepository;
+import com.susa.circle.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Hammers one contact from many threads. Each update reads the contact and
+ * adds an email to it, so an update that overwrote another would drop that
+ * one's email. Runs outside a test transaction so every update commits and
+ * is visible to the others.
+ *
+ * Updates do wait for each other: every write of a user's contacts locks
+ * that user's contact_stats row in applyDelta and claimChangeVersion and
+ * holds it until commit, so the row serializes them. The test does not
+ * prove those waits are absent, only bounded: lock_timeout turns a wait
+ * longer than a second into a failure, and any failure fails the test.
+ */
+@DataJpaTest(
+    properties = "spring.datasource.hikari.connection-init-sql=" +
+    "SET lock_timeout = '1s'"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(
+    {
+        ContactService.class,
+        ContactStatsService.class,
+        LocalValidatorFactoryBean.class,
+    }
+)
+class ContactServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 20;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactStatsRepository contactStatsRepository;
+
+    private Long userId;
+    private Long contactId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository
+            .save(
+                User.builder()
+                    .firstName("John")
+                    .lastName("Doe")
+                    .email("concurrency@example.com")
+                    .password("password")
+                    .active(true)
+                    .build()
+            )
+            .getId();
+
+        ContactRequest request = new ContactRequest();
+        request.setFirstName("Jane");
+        request.setLastName("Smith");
+        request.setEmails(
+            new ArrayList<>(
+                List.of(new EmailRequest("jane@example.com", EmailType.WORK))
+            )
+        );
+        contactId = contactService.createContact(userId, request).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactService.deleteContact(userId, contactId);
+        contactStatsRepository.deleteById(userId);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void testConcurrentUpdates_NoLostUpdates() throws Exception {
+        long initialVersion = contactService
+            .getContactById(userId, contactId)
+            .getVersion();
+        Set<String> committed = ConcurrentHashMap.newKeySet();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        String email = "t" + thread + "." + i + "@example.com";
+                        try {
+                            ContactResponse current =
+                                contactService.getContactById(
+                                    userId,
+                                    contactId
+                                );
+                            contactService.updateContact(
+                                userId,
+                                contactId,
+                                withEmail(current, email)
+                            );
+                            committed.add(email);
+                        } catch (
+                            ConflictException
+                            | OptimisticLockingFailureException e
+                        ) {
+                            conflicts.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failures.add(e);
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every update either committed or was told about the conflict; none
+        // deadlocked or waited longer than lock_timeout
+        assertEquals(List.of(), failures);
+        assertEquals(
+            THREADS * UPDATES_PER_THREAD,
+            committed.size() + conflicts.get()
+        );
+        assertFalse(committed.isEmpty());
+
+        ContactResponse result = contactService.getContactById(
+            userId,
+            contactId
+        );
+        Set<String> expected = new HashSet<>(committed);
+        expected.add("jane@example.com");
+        assertEquals(
+            expected,
+            result
+                .getEmails()
+                .stream()
+                .map(EmailResponse::getEmail)
+                .collect(Collectors.toSet())
+        );
+        assertEquals(initialVersion + committed.size(), result.getVersion());
+    }
+
+    @Test
+    void testUpdateContact_StaleVersionIsRejected() {
+        ContactResponse stale = contactService.getContactById(
+            userId,
+            contactId
+        );
+        contactService.updateContact(
+            userId,
+            contactId,
+            withEmail(stale, "first@example.com")
+        );
+
+        ConflictException exception = assertThrows(
+            ConflictException.class,
+            () ->
+                contactService.updateContact(
+                    userId,
+                    contactId,
+                    withEmail(stale, "second@example.com")
+                )
+        );
+
+        ContactResponse current = assertInstanceOf(
+            ContactResponse.class,
+            exception.getCurrent()
+        );
+        assertEquals(stale.getVersion() + 1, current.getVersion());
+        assertEquals(2, current.getEmails().size());
+    }
+
+    // The contact as the client read it, plus one more email
+    private static ContactRequest withEmail(
+        ContactResponse contact,
+        String email
+    ) {
+        ContactRequest request = new ContactRequest();
+        request.setFirstName(contact.getFirstName());
+        request.setLastName(contact.getLastName());
+        request.setTitle(contact.getTitle());
+        request.setVersion(contact.getVersion());
+        request.setEmails(
+            contact
+                .getEmails()
+                .stream()
+                .map(existing ->
+                    new EmailRequest(existing.getEmail(), existing.getType())
+                )
+                .collect(Collectors.toCollection(ArrayList::new))
+        );
+        request.getEmails().add(new EmailRequest(email, EmailType.WORK));
+        request.setPhones(new ArrayList<>());
+        return request;
+    }
+}
@@ -0,0 +1,205 @@
+package com.susa.circle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.dto.request.ContactRequest;
+import com.susa.circle.dto.request.EmailRequest;
+import com.susa.circle.dto.request.PhoneRequest;
+import com.susa.circle.entity.User;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Counts the JDBC round trips of createContact, once with batching disabled
+ * for the session and once with the configured batch size. A contact with
+ * three emails and three phones used to take a round trip per row.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(
+    {
+        ContactService.class,
+        ContactStatsService.class,
+        LocalValidatorFactoryBean.class,
+    }
+)
+class ContactServiceRoundTripTest {
+
+    private static final int CONTACT_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private RoundTripCounter roundTripCounter;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = entityManager.persist(
+            User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("roundtrips@example.com")
+                .password("password")
+                .active(true)
+                .contacts(new ArrayList<>())
+                .build()
+        );
+        entityManager.flush();
+
+        // Seeds the stats row so it is not part of the measurement
+        createContacts(1);
+    }
+
+    @Test
+    void testCreateContact_BatchingCutsRoundTrips() {
+        Session session = entityManager
+            .getEntityManager()
+            .unwrap(Session.class);
+
+        session.setJdbcBatchSize(1);
+        double unbatched =
+            createContacts(CONTACT_COUNT) / (double) CONTACT_COUNT;
+
+        session.setJdbcBatchSize(null);
+        double batched =
+            createContacts(CONTACT_COUNT) / (double) CONTACT_COUNT;
+
+        String report = String.format(
+            "round trips per createContact: unbatched %.2f, batched %.2f",
+            unbatched,
+            batched
+        );
+        // User lookup, stats update and seven single-row inserts
+        assertTrue(unbatched >= 9, report);
+        // User lookup, stats update and one insert batch per table, with
+        // sequence calls amortized over blocks of 50 ids
+        assertTrue(batched <= 6, report);
+    }
+
+    private long createContacts(int count) {
+        long before = roundTripCounter.get();
+        for (int i = 0; i < count; i++) {
+            entityManager.clear();
+            contactService.createContact(testUser.getId(), request(i));
+            entityManager.flush();
+        }
+        return roundTripCounter.get() - before;
+    }
+
+    private static ContactRequest request(int index) {
+        ContactRequest request = new ContactRequest();
+        request.setFirstName("Jane" + index);
+        request.setLastName("Smith");
+        request.setEmails(new ArrayList<>());
+        request.setPhones(new ArrayList<>());
+        EmailType[] emailTypes = EmailType.values();
+        PhoneType[] phoneTypes = PhoneType.values();
+        for (int j = 0; j < 3; j++) {
+            request
+                .getEmails()
+                .add(
+                    new EmailRequest(
+                        "jane" + index + "." + j + "@example.com",
+                        emailTypes[j]
+                    )
+                );
+            request
+                .getPhones()
+                .add(
+                    new PhoneRequest(
+                        "+1555" + String.format("%04d%d", index, j),
+                        phoneTypes[j]
+                    )
+                );
+        }
+        return request;
+    }
+
+    @TestConfiguration
+    static class RoundTripCounterConfig {
+
+        @Bean
+        static RoundTripCounter roundTripCounter() {
+            return new RoundTripCounter();
+        }
+    }
+
+    /**
+     * Wraps the DataSource so that every statement execution, including each
+     * executeBatch call, counts as one round trip.
+     */
+    static class RoundTripCounter implements BeanPostProcessor {
+
+        private final AtomicLong executions = new AtomicLong();
+
+        long get() {
+            return executions.get();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String name) {
+            return bean instanceof DataSource dataSource
+                ? wrap(DataSource.class, dataSource)
+                : bean;
+        }
+
+        private <T> T wrap(Class<T> type, T target) {
+            return type.cast(
+                Proxy.newProxyInstance(
+                    RoundTripCounter.class.getClassLoader(),
+                    new Class<?>[] { type },
+                    (proxy, method, args) -> {
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (method.getName().startsWith("execute")) {
+                            executions.incrementAndGet();
+                        }
+                        return wrapResult(method.getReturnType(), result);
+                    }
+                )
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object wrapResult(Class<?> returnType, Object result) {
+            if (
+                result != null &&
+                returnType.isInterface() &&
+                (returnType == Connection.class ||
+                    Statement.class.isAssignableFrom(returnType))
+            ) {
+                return wrap((Class<Object>) returnType, result);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.susa.circle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.susa.circle.dto.request.ContactRequest;
+import com.susa.circle.dto.request.EmailRequest;
+import com.susa.circle.dto.request.PhoneRequest;
+import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.dto.response.ContactMultiGetResponse;
+import com.susa.circle.dto.response.EmailResponse;
+import com.susa.circle.entity.Contact;
+import com.susa.circle.entity.ContactEmail;
+import com.susa.circle.entity.ContactPhone;
+import com.susa.circle.entity.User;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+@DataJpaTest(
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(
+    {
+        ContactService.class,
+        ContactStatsService.class,
+        LocalValidatorFactoryBean.class,
+    }
+)
+class ContactServiceStatementCountTest {
+
+    private static final int CONTACT_COUNT = 60;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContactService contactService;
+
+    private User testUser;
+    private Long firstContactId;
+    private List<Long> contactIds;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testUser = entityManager.persist(
+            User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("statements@example.com")
+                .password("password")
+                .active(true)
+                .contacts(new ArrayList<>())
+                .build()
+        );
+
+        contactIds = new ArrayList<>();
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            Contact contact = Contact.builder()
+                .firstName(String.format("Jane%03d", i))
+                .lastName("Smith")
+                .user(testUser)
+                .emails(new ArrayList<>())
+                .phones(new ArrayList<>())
+                .build();
+            for (int j = 0; j < 2; j++) {
+                contact
+                    .getEmails()
+                    .add(
+                        ContactEmail.builder()
+                            .email("jane" + i + "." + j + "@example.com")
+                            .type(EmailType.WORK)
+                            .contact(contact)
+                            .build()
+                    );
+                contact
+                    .getPhones()
+                    .add(
+                        ContactPhone.builder()
+                            .phoneNumber("+1555" + String.format("%04d%d", i, j))
+                            .type(PhoneType.HOME)
+                            .contact(contact)
+                            .build()
+                    );
+            }
+            entityManager.persist(contact);
+            contactIds.add(contact.getId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        firstContactId = contactIds.get(0);
+
+        statistics = entityManager
+            .getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    void testGetAllContacts_StatementCountIndependentOfPageSize() {
+        long smallPage = countStatementsForPage(5);
+        long largePage = countStatementsForPage(50);
+
+        assertEquals(smallPage, largePage);
+        assertTrue(largePage <= 4, "statements: " + largePage);
+    }
+
+    @Test
+    void testGetAllContacts_LoadsChildrenInPageOrder() {
+        Page<ContactResponse> page = contactService.getAllContacts(
+            testUser.getId(),
+            PageRequest.of(1, 10, Sort.by("firstName").descending())
+        );
+
+        assertEquals(CONTACT_COUNT, page.getTotalElements());
+        assertEquals("Jane049", page.getContent().get(0).getFirstName());
+        assertEquals("Jane040", page.getContent().get(9).getFirstName());
+        page
+            .getContent()
+            .forEach(contact -> {
+                assertEquals(2, contact.getEmails().size());
+                assertEquals(2, contact.getPhones().size());
+            });
+    }
+
+    @Test
+    void testSearchContacts_StatementCountIndependentOfPageSize() {
+        entityManager.clear();
+        statistics.clear();
+        contactService.searchContacts(
+            testUser.getId(),
+            "jane",
+            PageRequest.of(0, 5)
+        );
+        long smallPage = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+        contactService.searchContacts(
+            testUser.getId(),
+            "jane",
+            PageRequest.of(0, 50)
+        );
+        long largePage = statistics.getPrepareStatementCount();
+
+        assertEquals(smallPage, largePage);
+    }
+
+    private long countStatementsForPage(int size) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<ContactResponse> page = contactService.getAllContacts(
+            testUser.getId(),
+            PageRequest.of(0, size, Sort.by("firstName"))
+        );
+        assertEquals(size, page.getNumberOfElements());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void testUpdateContact_UnchangedChildrenEmitNoChildStatements() {
+        ContactRequest request = requestFor(0);
+        request.setTitle("Engineer");
+
+        long statements = countUpdateStatements(request);
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertTrue(statements <= 5, "statements: " + statements);
+    }
+
+    @Test
+    void testUpdateContact_ReorderedChildrenEmitNoStatements() {
+        ContactRequest request = requestFor(0);
+        request.setEmails(request.getEmails().reversed());
+        request.setPhones(request.getPhones().reversed());
+
+        countUpdateStatements(request);
+
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    void testUpdateContact_OnlyChangedChildrenAreWritten() {
+        ContactRequest request = requestFor(0);
+        request.getEmails().get(1).setEmail("jane.new@example.com");
+        request.setPhones(List.of(request.getPhones().get(0)));
+
+        countUpdateStatements(request);
+
+        // The changed email is updated in place and the dropped phone deleted.
+        // The contact row only has its version forced, which is no entity
+        // update.
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+
+        entityManager.clear();
+        ContactResponse updated = contactService.getContactById(
+            testUser.getId(),
+            firstContactId
+        );
+        assertEquals(
+            List.of("jane0.0@example.com", "jane.new@example.com"),
+            updated
+                .getEmails()
+                .stream()
+                .map(EmailResponse::getEmail)
+                .sorted()
+                .toList()
+        );
+        assertEquals(1, updated.getPhones().size());
+    }
+
+    @Test
+    void testUpdateContact_AddedChildIsInserted() {
+        ContactRequest request = requestFor(0);
+        request
+            .getEmails()
+            .add(new EmailRequest("jane.other@example.com", EmailType.OTHER));
+
+        countUpdateStatements(request);
+
+        // The contact row only has its version forced
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    private ContactRequest requestFor(int index) {
+        ContactRequest request = new ContactRequest();
+        request.setFirstName(String.format("Jane%03d", index));
+        request.setLastName("Smith");
+        request.setEmails(new ArrayList<>());
+        request.setPhones(new ArrayList<>());
+        for (int j = 0; j < 2; j++) {
+            request
+                .getEmails()
+                .add(
+                    new EmailRequest(
+                        "jane" + index + "." + j + "@example.com",
+                        EmailType.WORK
+                    )
+                );
+            request
+                .getPhones()
+                .add(
+                    new PhoneRequest(
+                        "+1555" + String.format("%04d%d", index, j),
+                        PhoneType.HOME
+                    )
+                );
+        }
+        return request;
+    }
+
+    private long countUpdateStatements(ContactRequest request) {
+        entityManager.clear();
+        statistics.clear();
+
+        contactService.updateContact(testUser.getId(), firstContactId, request);
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void testGetContactsByIds_StatementCountIndependentOfIdCount() {
+        long few = countStatementsForIds(5);
+        long many = countStatementsForIds(50);
+
+        assertEquals(few, many);
+        assertTrue(many <= 2, "statements: " + many);
+    }
+
+    @Test
+    void testGetContactsByIds_ReportsMissingIds() {
+        ContactMultiGetResponse response = contactService.getContactsByIds(
+            testUser.getId(),
+            List.of(contactIds.get(1), -1L, contactIds.get(0))
+        );
+
+        assertEquals(
+            List.of(contactIds.get(1), contactIds.get(0)),
+            response.getContacts().stream().map(ContactResponse::getId).toList()
+        );
+        assertEquals(List.of(-1L), response.getMissingIds());
+        assertEquals(2, response.getContacts().get(0).getEmails().size());
+    }
+
+    private long countStatementsForIds(int count) {
+        entityManager.clear();
+        statistics.clear();
+
+        ContactMultiGetResponse response = contactService.getContactsByIds(
+            testUser.getId(),
+            contactIds.subList(0, count)
+        );
+        assertEquals(count, response.getContacts().size());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void testGetContactById_SingleStatement() {
+        entityManager.clear();
+        statistics.clear();
+
+        ContactResponse contact = contactService.getContactById(
+            testUser.getId(),
+            firstContactId
+        );
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, contact.getEmails().size());
+        assertEquals(2, contact.getPhones().size());
+    }
+
+    @Test
+    void testDeleteContact_LoadsNoEntities() {
+        entityManager.clear();
+        statistics.clear();
+
+        contactService.deleteContact(testUser.getId(), firstContactId);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(CONTACT_COUNT - 1, remainingContacts());
+    }
+
+    private long remainingContacts() {
+        return (
+            (Number) entityManager
+                .getEntityManager()
+                .createQuery(
+                    "SELECT COUNT(c) FROM Contact c WHERE c.user.id = :userId"
+                )
+                .setParameter("userId", testUser.getId())
+                .getSingleResult()
+        ).longValue();
+    }
+}
@@ -8,31 +8,49 @@ import static org.mockito.Mockito.*;
 import com.susa.circle.dto.request.ContactRequest;
 import com.susa.circle.dto.request.EmailRequest;
 import com.susa.circle.dto.request.PhoneRequest;
+import com.susa.circle.dto.response.ContactBatchResponse;
+import com.susa.circle.dto.response.ContactBulkResponse;
+import com.susa.circle.dto.response.ContactMultiGetResponse;
 import com.susa.circle.dto.response.ContactResponse;
+import com.susa.circle.dto.response.CursorPageResponse;
 import com.susa.circle.entity.Contact;
 import com.susa.circle.entity.ContactEmail;
 import com.susa.circle.entity.ContactPhone;
 import com.susa.circle.entity.User;
+import com.susa.circle.event.ContactsChangedEvent;
+import com.susa.circle.enums.ContactSortField;
 import com.susa.circle.enums.EmailType;
 import com.susa.circle.enums.PhoneType;
 import com.susa.circle.exception.BadRequestException;
+import com.susa.circle.exception.ConflictException;
+import com.susa.circle.exception.PreconditionFailedException;
 import com.susa.circle.exception.ResourceNotFoundException;
 import com.susa.circle.repository.ContactRepository;
 import com.susa.circle.repository.UserRepository;
+import com.susa.circle.util.ContactCursor;
+import com.susa.circle.util.ContactStatsDelta;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ContactServiceTest {
@@ -43,6 +61,15 @@ class ContactServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ContactStatsService contactStatsService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ContactService contactService;
 
@@ -106,7 +133,7 @@ class ContactServiceTest {
     @Test
     void testCreateContact_Success() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(contactRepository.save(any(Contact.class))).thenReturn(
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
             testContact
         );
 
@@ -123,7 +150,25 @@ class ContactServiceTest {
         assertEquals(1, response.getPhones().size());
 
         verify(userRepository).findById(1L);
-        verify(contactRepository).save(any(Contact.class));
+        verify(contactRepository).saveAndFlush(any(Contact.class));
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(
+                delta ->
+                    delta.getTotalContacts() == 1 &&
+                    delta.getWorkEmails() == 1 &&
+                    delta.getWorkPhones() == 1 &&
+                    delta.getContactsWithoutEmail() == 0
+            )
+        );
+        verify(eventPublisher).publishEvent(
+            argThat(
+                (Object event) ->
+                    event instanceof ContactsChangedEvent changed &&
+                    changed.getUserId() == 1L &&
+                    changed.getContactIds().equals(List.of(1L))
+            )
+        );
     }
 
     @Test
@@ -137,18 +182,233 @@ class ContactServiceTest {
 
         assertTrue(exception.getMessage().contains("User"));
         verify(userRepository).findById(1L);
-        verify(contactRepository, never()).save(any(Contact.class));
+        verify(contactRepository, never()).saveAndFlush(any(Contact.class));
+    }
+
+    @Test
+    void testCreateContacts_SavesValidItemsAndReportsInvalidOnes() {
+        ReflectionTestUtils.setField(contactService, "maxBatchSize", 10);
+        ContactRequest invalid = new ContactRequest();
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<ContactRequest> violation = mock(
+            ConstraintViolation.class
+        );
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("firstName");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("First name is required");
+        when(validator.validate(contactRequest)).thenReturn(Set.of());
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(contactRepository.saveAllAndFlush(anyList())).thenReturn(
+            List.of(testContact)
+        );
+
+        ContactBatchResponse response = contactService.createContacts(
+            1L,
+            List.of(contactRequest, invalid)
+        );
+
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals(1L, response.getResults().get(0).getContact().getId());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertEquals(
+            "First name is required",
+            response.getResults().get(1).getErrors().get("firstName")
+        );
+        verify(userRepository, times(1)).findById(1L);
+        verify(contactRepository).saveAllAndFlush(
+            argThat((List<Contact> contacts) -> contacts.size() == 1)
+        );
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(delta -> delta.getTotalContacts() == 1)
+        );
+    }
+
+    @Test
+    void testCreateContacts_RejectsOversizedBatch() {
+        ReflectionTestUtils.setField(contactService, "maxBatchSize", 1);
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () ->
+                contactService.createContacts(
+                    1L,
+                    List.of(contactRequest, contactRequest)
+                )
+        );
+
+        assertEquals(
+            "At most 1 contacts can be created at once",
+            exception.getMessage()
+        );
+        verifyNoInteractions(userRepository, contactRepository);
+    }
+
+    @Test
+    void testCreateContacts_AllInvalidSavesNothing() {
+        ReflectionTestUtils.setField(contactService, "maxBatchSize", 10);
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<ContactRequest> violation = mock(
+            ConstraintViolation.class
+        );
+        Path path = mock(Path.class);
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(validator.validate(contactRequest)).thenReturn(Set.of(violation));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        ContactBatchResponse response = contactService.createContacts(
+            1L,
+            List.of(contactRequest)
+        );
+
+        assertEquals(0, response.getCreated());
+        assertEquals(1, response.getFailed());
+        verify(contactRepository, never()).saveAllAndFlush(anyList());
+        verify(contactStatsService, never()).applyDelta(anyLong(), any());
+    }
+
+    @Test
+    void testDeleteContacts_ByIdsAdjustsStats() {
+        ReflectionTestUtils.setField(contactService, "maxBulkIds", 10);
+        ContactStatsDelta removed = ContactStatsDelta.of(testContact);
+        when(contactRepository.deleteByIds(1L, List.of(1L, 2L))).thenReturn(
+            removed
+        );
+
+        ContactBulkResponse response = contactService.deleteContacts(
+            1L,
+            List.of(1L, 2L),
+            null
+        );
+
+        assertEquals(1, response.getAffected());
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(delta -> delta.getTotalContacts() == -1)
+        );
+        verify(contactRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testDeleteContacts_BySearch() {
+        when(contactRepository.deleteMatching(1L, "jane")).thenReturn(
+            ContactStatsDelta.none()
+        );
+
+        ContactBulkResponse response = contactService.deleteContacts(
+            1L,
+            null,
+            "jane"
+        );
+
+        assertEquals(0, response.getAffected());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteContacts_RequiresExactlyOneSelection() {
+        assertThrows(BadRequestException.class, () ->
+            contactService.deleteContacts(1L, null, " ")
+        );
+        assertThrows(BadRequestException.class, () ->
+            contactService.deleteContacts(1L, List.of(1L), "jane")
+        );
+        verifyNoInteractions(contactRepository);
+    }
+
+    @Test
+    void testDeleteContacts_RejectsTooManyIds() {
+        ReflectionTestUtils.setField(contactService, "maxBulkIds", 1);
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> contactService.deleteContacts(1L, List.of(1L, 2L), null)
+        );
+
+        assertEquals(
+            "At most 1 ids can be selected at once",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void testUpdateContactTitles_BySearch() {
+        when(
+            contactRepository.updateTitleMatching(1L, "smith", "Engineer")
+        ).thenReturn(3);
+
+        ContactBulkResponse response = contactService.updateContactTitles(
+            1L,
+            null,
+            "smith",
+            "Engineer"
+        );
+
+        assertEquals(3, response.getAffected());
+        // Counters stay as they are, but the change version moves
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(ContactStatsDelta::isZero)
+        );
+        verify(eventPublisher).publishEvent(
+            argThat(
+                (Object event) ->
+                    event instanceof ContactsChangedEvent changed &&
+                    changed.getContactIds() == null
+            )
+        );
+    }
+
+    @Test
+    void testGetContactsByIds_ReportsMissingIds() {
+        ReflectionTestUtils.setField(contactService, "maxMultiGetIds", 10);
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(
+                1L,
+                List.of(1L, 2L)
+            )
+        ).thenReturn(List.of(testContact));
+
+        ContactMultiGetResponse response = contactService.getContactsByIds(
+            1L,
+            List.of(1L, 2L, 1L)
+        );
+
+        assertEquals(1, response.getContacts().size());
+        assertEquals(1L, response.getContacts().get(0).getId());
+        assertEquals(List.of(2L), response.getMissingIds());
+        verify(contactRepository).findAllWithPhonesByUserIdAndIdIn(
+            1L,
+            List.of(1L, 2L)
+        );
+        verify(contactRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testGetContactsByIds_RejectsTooManyIds() {
+        ReflectionTestUtils.setField(contactService, "maxMultiGetIds", 1);
+
+        assertThrows(BadRequestException.class, () ->
+            contactService.getContactsByIds(1L, List.of(1L, 2L))
+        );
+        verifyNoInteractions(contactRepository);
     }
 
     @Test
     void testGetAllContacts_Success() {
-        List<Contact> contacts = Arrays.asList(testContact);
-        Page<Contact> contactPage = new PageImpl<>(contacts);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(contactRepository.findByUserId(1L, pageable)).thenReturn(
-            contactPage
+        when(contactRepository.findIdsByUserId(1L, pageable)).thenReturn(
+            List.of(1L)
         );
+        when(contactStatsService.getTotalContacts(1L)).thenReturn(1L);
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
 
         Page<ContactResponse> response = contactService.getAllContacts(
             1L,
@@ -159,18 +419,24 @@ class ContactServiceTest {
         assertEquals(1, response.getTotalElements());
         assertEquals("Jane", response.getContent().get(0).getFirstName());
 
-        verify(contactRepository).findByUserId(1L, pageable);
+        verify(contactRepository).findIdsByUserId(1L, pageable);
+        verify(contactRepository).findAllWithPhonesByUserIdAndIdIn(
+            1L,
+            List.of(1L)
+        );
     }
 
     @Test
     void testSearchContacts_Success() {
-        List<Contact> contacts = Arrays.asList(testContact);
-        Page<Contact> contactPage = new PageImpl<>(contacts);
+        Page<Long> idPage = new PageImpl<>(List.of(1L));
         Pageable pageable = PageRequest.of(0, 10);
 
+        when(contactRepository.searchIds(1L, "jane", pageable)).thenReturn(
+            idPage
+        );
         when(
-            contactRepository.searchContactsByUserId(1L, "jane", pageable)
-        ).thenReturn(contactPage);
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
 
         Page<ContactResponse> response = contactService.searchContacts(
             1L,
@@ -182,27 +448,181 @@ class ContactServiceTest {
         assertEquals(1, response.getTotalElements());
         assertEquals("Jane", response.getContent().get(0).getFirstName());
 
-        verify(contactRepository).searchContactsByUserId(1L, "jane", pageable);
+        verify(contactRepository).searchIds(1L, "jane", pageable);
+    }
+
+    @Test
+    void testGetAllContacts_EmptyPageSkipsChildQueries() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(contactRepository.findIdsByUserId(1L, pageable)).thenReturn(
+            List.of()
+        );
+
+        Page<ContactResponse> response = contactService.getAllContacts(
+            1L,
+            pageable
+        );
+
+        assertTrue(response.getContent().isEmpty());
+        verify(contactRepository, never()).findAllWithEmailsByUserIdAndIdIn(
+            anyLong(),
+            any()
+        );
+        verify(contactRepository, never()).findAllWithPhonesByUserIdAndIdIn(
+            anyLong(),
+            any()
+        );
+    }
+
+    @Test
+    void testGetContactSlice_DoesNotCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(contactRepository.findIdSliceByUserId(1L, pageable)).thenReturn(
+            new SliceImpl<>(List.of(1L), pageable, true)
+        );
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+
+        Slice<ContactResponse> response = contactService.getContactSlice(
+            1L,
+            null,
+            pageable
+        );
+
+        assertTrue(response.hasNext());
+        assertEquals("Jane", response.getContent().get(0).getFirstName());
+        verify(contactStatsService, never()).getTotalContacts(anyLong());
+        verify(contactRepository, never()).countByUserId(anyLong());
+    }
+
+    @Test
+    void testGetContactsAfter_ReturnsNextCursorWhenMoreRowsExist() {
+        ContactCursor cursor = ContactCursor.first(
+            ContactSortField.FIRST_NAME,
+            false
+        );
+
+        when(contactRepository.findIdsAfter(1L, null, cursor, 2)).thenReturn(
+            List.of(1L, 2L)
+        );
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+
+        CursorPageResponse<ContactResponse> response =
+            contactService.getContactsAfter(1L, null, cursor, 1);
+
+        assertEquals(1, response.getContent().size());
+        assertTrue(response.isHasNext());
+
+        ContactCursor next = ContactCursor.decode(response.getNextCursor());
+        assertEquals(ContactSortField.FIRST_NAME, next.getSortField());
+        assertEquals("Jane", next.getValue());
+        assertEquals(1L, next.getId());
+    }
+
+    @Test
+    void testGetContactsAfter_LastPageHasNoCursor() {
+        ContactCursor cursor = ContactCursor.first(
+            ContactSortField.FIRST_NAME,
+            false
+        );
+
+        when(contactRepository.findIdsAfter(1L, null, cursor, 11)).thenReturn(
+            List.of(1L)
+        );
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+
+        CursorPageResponse<ContactResponse> response =
+            contactService.getContactsAfter(1L, null, cursor, 10);
+
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
     }
 
     @Test
     void testGetContactById_Success() {
-        when(contactRepository.findById(1L)).thenReturn(
-            Optional.of(testContact)
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(
+            new Object[] {
+                testContact,
+                testContact.getEmails().get(0),
+                testContact.getPhones().get(0),
+            }
         );
+        when(
+            contactRepository.findWithChildrenByIdAndUserId(1L, 1L)
+        ).thenReturn(rows);
 
         ContactResponse response = contactService.getContactById(1L, 1L);
 
         assertNotNull(response);
         assertEquals(1L, response.getId());
         assertEquals("Jane", response.getFirstName());
+        assertEquals(1, response.getEmails().size());
+        assertEquals(1, response.getPhones().size());
 
-        verify(contactRepository).findById(1L);
+        verify(contactRepository).findWithChildrenByIdAndUserId(1L, 1L);
+        verify(contactRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void testGetContactById_DeduplicatesJoinedChildren() {
+        ContactEmail secondEmail = ContactEmail.builder()
+            .id(2L)
+            .email("jane@home.com")
+            .type(EmailType.PERSONAL)
+            .contact(testContact)
+            .build();
+        ContactPhone secondPhone = ContactPhone.builder()
+            .id(2L)
+            .phoneNumber("+1987654321")
+            .type(PhoneType.HOME)
+            .contact(testContact)
+            .build();
+        ContactEmail firstEmail = testContact.getEmails().get(0);
+        ContactPhone firstPhone = testContact.getPhones().get(0);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { testContact, firstEmail, firstPhone });
+        rows.add(new Object[] { testContact, firstEmail, secondPhone });
+        rows.add(new Object[] { testContact, secondEmail, firstPhone });
+        rows.add(new Object[] { testContact, secondEmail, secondPhone });
+        when(
+            contactRepository.findWithChildrenByIdAndUserId(1L, 1L)
+        ).thenReturn(rows);
+
+        ContactResponse response = contactService.getContactById(1L, 1L);
+
+        assertEquals(2, response.getEmails().size());
+        assertEquals("jane@home.com", response.getEmails().get(1).getEmail());
+        assertEquals(2, response.getPhones().size());
+    }
+
+    @Test
+    void testGetContactById_WithoutChildren() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { testContact, null, null });
+        when(
+            contactRepository.findWithChildrenByIdAndUserId(1L, 1L)
+        ).thenReturn(rows);
+
+        ContactResponse response = contactService.getContactById(1L, 1L);
+
+        assertTrue(response.getEmails().isEmpty());
+        assertTrue(response.getPhones().isEmpty());
     }
 
     @Test
     void testGetContactById_ContactNotFound() {
-        when(contactRepository.findById(1L)).thenReturn(Optional.empty());
+        when(
+            contactRepository.findWithChildrenByIdAndUserId(1L, 1L)
+        ).thenReturn(List.of());
+        when(contactRepository.existsById(1L)).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
@@ -210,23 +630,15 @@ class ContactServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Contact"));
-        verify(contactRepository).findById(1L);
+        verify(contactRepository).existsById(1L);
     }
 
     @Test
     void testGetContactById_UnauthorizedAccess() {
-        Contact otherUserContact = Contact.builder()
-            .id(1L)
-            .firstName("Jane")
-            .lastName("Smith")
-            .user(User.builder().id(2L).build())
-            .emails(new ArrayList<>())
-            .phones(new ArrayList<>())
-            .build();
-
-        when(contactRepository.findById(1L)).thenReturn(
-            Optional.of(otherUserContact)
-        );
+        when(
+            contactRepository.findWithChildrenByIdAndUserId(1L, 1L)
+        ).thenReturn(List.of());
+        when(contactRepository.existsById(1L)).thenReturn(true);
 
         BadRequestException exception = assertThrows(
             BadRequestException.class,
@@ -237,15 +649,15 @@ class ContactServiceTest {
             "You don't have permission to access this contact",
             exception.getMessage()
         );
-        verify(contactRepository).findById(1L);
+        verify(contactRepository, never()).findById(anyLong());
     }
 
     @Test
     void testUpdateContact_Success() {
-        when(contactRepository.findById(1L)).thenReturn(
-            Optional.of(testContact)
-        );
-        when(contactRepository.save(any(Contact.class))).thenReturn(
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
             testContact
         );
 
@@ -263,13 +675,89 @@ class ContactServiceTest {
         );
 
         assertNotNull(response);
-        verify(contactRepository).findById(1L);
-        verify(contactRepository).save(any(Contact.class));
+        verify(contactRepository).findAllWithPhonesByUserIdAndIdIn(
+            1L,
+            List.of(1L)
+        );
+        verify(contactRepository, never()).findById(anyLong());
+        verify(contactRepository).saveAndFlush(any(Contact.class));
+        // Same emails and phones, so the counters stay as they are
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(ContactStatsDelta::isZero)
+        );
+    }
+
+    @Test
+    void testUpdateContact_AdjustsStatsForRemovedChildren() {
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
+            testContact
+        );
+
+        ContactRequest updateRequest = new ContactRequest();
+        updateRequest.setFirstName("Jane");
+        updateRequest.setLastName("Smith");
+        updateRequest.setPhones(contactRequest.getPhones());
+
+        contactService.updateContact(1L, 1L, updateRequest);
+
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(
+                delta ->
+                    delta.getTotalContacts() == 0 &&
+                    delta.getWorkEmails() == -1 &&
+                    delta.getContactsWithoutEmail() == 1 &&
+                    delta.getWorkPhones() == 0
+            )
+        );
+    }
+
+    @Test
+    void testUpdateContact_ReusesExistingChildRows() {
+        ContactEmail existingEmail = testContact.getEmails().get(0);
+        ContactPhone existingPhone = testContact.getPhones().get(0);
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
+            testContact
+        );
+
+        ContactRequest updateRequest = new ContactRequest();
+        updateRequest.setFirstName("Jane");
+        updateRequest.setLastName("Smith");
+        updateRequest.setEmails(
+            List.of(
+                new EmailRequest("jane@personal.com", EmailType.PERSONAL),
+                new EmailRequest("jane@work.com", EmailType.WORK)
+            )
+        );
+        updateRequest.setPhones(
+            List.of(new PhoneRequest("+1987654321", PhoneType.HOME))
+        );
+
+        contactService.updateContact(1L, 1L, updateRequest);
+
+        // The unchanged email keeps its row, the new one is added in order
+        assertEquals(2, testContact.getEmails().size());
+        assertNull(testContact.getEmails().get(0).getId());
+        assertSame(existingEmail, testContact.getEmails().get(1));
+        // The phone row is rewritten in place instead of deleted and inserted
+        assertSame(existingPhone, testContact.getPhones().get(0));
+        assertEquals("+1987654321", existingPhone.getPhoneNumber());
+        assertEquals(PhoneType.HOME, existingPhone.getType());
     }
 
     @Test
     void testUpdateContact_ContactNotFound() {
-        when(contactRepository.findById(1L)).thenReturn(Optional.empty());
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of());
+        when(contactRepository.existsById(1L)).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
@@ -277,24 +765,15 @@ class ContactServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Contact"));
-        verify(contactRepository).findById(1L);
-        verify(contactRepository, never()).save(any(Contact.class));
+        verify(contactRepository, never()).saveAndFlush(any(Contact.class));
     }
 
     @Test
     void testUpdateContact_UnauthorizedAccess() {
-        Contact otherUserContact = Contact.builder()
-            .id(1L)
-            .firstName("Jane")
-            .lastName("Smith")
-            .user(User.builder().id(2L).build())
-            .emails(new ArrayList<>())
-            .phones(new ArrayList<>())
-            .build();
-
-        when(contactRepository.findById(1L)).thenReturn(
-            Optional.of(otherUserContact)
-        );
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of());
+        when(contactRepository.existsById(1L)).thenReturn(true);
 
         BadRequestException exception = assertThrows(
             BadRequestException.class,
@@ -305,26 +784,139 @@ class ContactServiceTest {
             "You don't have permission to update this contact",
             exception.getMessage()
         );
-        verify(contactRepository).findById(1L);
-        verify(contactRepository, never()).save(any(Contact.class));
+        verify(contactRepository, never()).saveAndFlush(any(Contact.class));
+    }
+
+    @Test
+    void testUpdateContact_StaleVersionReturnsCurrentState() {
+        testContact.setVersion(3L);
+        contactRequest.setVersion(2L);
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+
+        ConflictException exception = assertThrows(
+            ConflictException.class,
+            () -> contactService.updateContact(1L, 1L, contactRequest)
+        );
+
+        ContactResponse current = assertInstanceOf(
+            ContactResponse.class,
+            exception.getCurrent()
+        );
+        assertEquals(3L, current.getVersion());
+        assertEquals("Jane", current.getFirstName());
+        verify(contactRepository, never()).saveAndFlush(any(Contact.class));
+        verify(contactStatsService, never()).applyDelta(anyLong(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testUpdateContact_CurrentVersionIsAccepted() {
+        testContact.setVersion(3L);
+        contactRequest.setVersion(3L);
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
+            testContact
+        );
+
+        contactService.updateContact(1L, 1L, contactRequest);
+
+        verify(contactRepository).saveAndFlush(testContact);
+    }
+
+    @Test
+    void testUpdateContact_OnlyChildrenChangedIncrementsVersion() {
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
+            testContact
+        );
+        contactRequest.setEmails(
+            List.of(new EmailRequest("jane@personal.com", EmailType.PERSONAL))
+        );
+
+        contactService.updateContact(1L, 1L, contactRequest);
+
+        verify(contactRepository).incrementVersion(testContact);
+    }
+
+    @Test
+    void testUpdateContact_ChangedFieldsLeaveVersionToFlush() {
+        when(
+            contactRepository.findAllWithEmailsByUserIdAndIdIn(1L, List.of(1L))
+        ).thenReturn(List.of(testContact));
+        when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(
+            testContact
+        );
+        contactRequest.setTitle("Staff Engineer");
+        contactRequest.setEmails(
+            List.of(new EmailRequest("jane@personal.com", EmailType.PERSONAL))
+        );
+
+        contactService.updateContact(1L, 1L, contactRequest);
+
+        verify(contactRepository, never()).incrementVersion(any(Contact.class));
+    }
+
+    @Test
+    void testUpdateContact_StaleChangeVersionLoadsNothing() {
+        doThrow(new PreconditionFailedException("stale"))
+            .when(contactStatsService)
+            .claimChangeVersion(1L, 3L);
+
+        assertThrows(PreconditionFailedException.class, () ->
+            contactService.updateContact(1L, 1L, contactRequest, 3L)
+        );
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteContact_StaleChangeVersionDeletesNothing() {
+        doThrow(new PreconditionFailedException("stale"))
+            .when(contactStatsService)
+            .claimChangeVersion(1L, 3L);
+
+        assertThrows(PreconditionFailedException.class, () ->
+            contactService.deleteContact(1L, 1L, 3L)
+        );
+
+        verifyNoInteractions(contactRepository);
     }
 
     @Test
     void testDeleteContact_Success() {
-        when(contactRepository.findById(1L)).thenReturn(
-            Optional.of(testContact)
+        when(contactRepository.deleteByIds(1L, List.of(1L))).thenReturn(
+            ContactStatsDelta.of(testContact)
         );
-        doNothing().when(contactRepository).delete(any(Contact.class));
 
         assertDoesNotThrow(() -> contactService.deleteContact(1L, 1L));
 
-        verify(contactRepository).findById(1L);
-        verify(contactRepository).delete(testContact);
+        verify(contactRepository, never()).findById(anyLong());
+        verify(contactRepository, never()).existsById(anyLong());
+        verify(contactStatsService).applyDelta(
+            eq(1L),
+            argThat(
+                delta ->
+                    delta.getTotalContacts() == -1 &&
+                    delta.getWorkEmails() == -1 &&
+                    delta.getWorkPhones() == -1
+            )
+        );
+        verify(eventPublisher).publishEvent(any(ContactsChangedEvent.class));
     }
 
     @Test
     void testDeleteContact_ContactNotFound() {
-        when(contactRepository.findById(1L)).thenReturn(Optional.empty());
+        when(contactRepository.deleteByIds(1L, List.of(1L))).thenReturn(
+            ContactStatsDelta.none()
+        );
+        when(contactRepository.existsById(1L)).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
@@ -332,24 +924,15 @@ class ContactServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Contact"));
-        verify(contactRepository).findById(1L);
-        verify(contactRepository, never()).delete(any(Contact.class));
+        verify(contactStatsService, never()).applyDelta(anyLong(), any());
     }
 
     @Test
     void testDeleteContact_UnauthorizedAccess() {
-        Contact otherUserContact = Contact.builder()
-            .id(1L)
-            .firstName("Jane")
-            .lastName("Smith")
-            .user(User.builder().id(2L).build())
-            .emails(new ArrayList<>())
-            .phones(new ArrayList<>())
-            .build();
-
-        when(contactRepository.findById(1L)).thenReturn(
-            Optional.of(otherUserContact)
+        when(contactRepository.deleteByIds(1L, List.of(1L))).thenReturn(
+            ContactStatsDelta.none()
         );
+        when(contactRepository.existsById(1L)).thenReturn(true);
 
         BadRequestException exception = assertThrows(
             BadRequestException.class,
@@ -360,7 +943,6 @@ class ContactServiceTest {
             "You don't have permission to delete this contact",
             exception.getMessage()
         );
-        verify(contactRepository).findById(1L);
-        verify(contactRepository, never()).delete(any(Contact.class));
+        verify(contactStatsService, never()).applyDelta(anyLong(), any());
     }
 }
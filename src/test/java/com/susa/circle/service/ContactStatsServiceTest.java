@@ -0,0 +1,203 @@
+package com.susa.circle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.susa.circle.dto.response.ContactStatsResponse;
+import com.susa.circle.entity.Contact;
+import com.susa.circle.entity.ContactEmail;
+import com.susa.circle.entity.ContactStats;
+import com.susa.circle.enums.EmailType;
+import com.susa.circle.enums.PhoneType;
+import com.susa.circle.exception.PreconditionFailedException;
+import com.susa.circle.repository.ContactRepository;
+import com.susa.circle.repository.ContactStatsRepository;
+import com.susa.circle.util.ContactStatsDelta;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContactStatsServiceTest {
+
+    @Mock
+    private ContactStatsRepository contactStatsRepository;
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @InjectMocks
+    private ContactStatsService contactStatsService;
+
+    @Test
+    void testGetTotalContacts_ReadsCounter() {
+        when(contactStatsRepository.findById(1L)).thenReturn(
+            Optional.of(stats(42L))
+        );
+
+        assertEquals(42L, contactStatsService.getTotalContacts(1L));
+        verify(contactRepository, never()).countByUserId(1L);
+    }
+
+    @Test
+    void testGetTotalContacts_FallsBackToCountWithoutCounter() {
+        when(contactStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(contactRepository.countByUserId(1L)).thenReturn(7L);
+
+        assertEquals(7L, contactStatsService.getTotalContacts(1L));
+    }
+
+    @Test
+    void testApplyDelta_ExistingCounter() {
+        ContactStatsDelta delta = ContactStatsDelta.of(contact());
+        when(contactStatsRepository.applyDelta(1L, delta)).thenReturn(1);
+
+        contactStatsService.applyDelta(1L, delta);
+
+        verify(contactStatsRepository, never()).seed(1L);
+    }
+
+    @Test
+    void testApplyDelta_SeedsMissingCounter() {
+        ContactStatsDelta delta = ContactStatsDelta.of(contact());
+        when(contactStatsRepository.applyDelta(1L, delta)).thenReturn(0);
+        when(contactStatsRepository.seed(1L)).thenReturn(1);
+
+        contactStatsService.applyDelta(1L, delta);
+
+        verify(contactStatsRepository).seed(1L);
+        verify(contactStatsRepository, times(1)).applyDelta(1L, delta);
+    }
+
+    @Test
+    void testApplyDelta_ReappliesWhenConcurrentlySeeded() {
+        ContactStatsDelta delta = ContactStatsDelta.of(contact());
+        when(contactStatsRepository.applyDelta(1L, delta)).thenReturn(0, 1);
+        when(contactStatsRepository.seed(1L)).thenReturn(0);
+
+        contactStatsService.applyDelta(1L, delta);
+
+        verify(contactStatsRepository, times(2)).applyDelta(1L, delta);
+    }
+
+    @Test
+    void testApplyDelta_ZeroDeltaStillMovesVersion() {
+        ContactStatsDelta delta = ContactStatsDelta.none();
+        when(contactStatsRepository.applyDelta(1L, delta)).thenReturn(1);
+
+        contactStatsService.applyDelta(1L, delta);
+
+        verify(contactStatsRepository).applyDelta(1L, delta);
+        verify(contactStatsRepository, never()).seed(1L);
+    }
+
+    @Test
+    void testGetChangeVersion_MissingCounterIsZero() {
+        when(contactStatsRepository.findChangeVersion(1L)).thenReturn(
+            Optional.empty()
+        );
+
+        assertEquals(0L, contactStatsService.getChangeVersion(1L));
+    }
+
+    @Test
+    void testClaimChangeVersion_CurrentVersion() {
+        when(contactStatsRepository.claimChangeVersion(1L, 4L)).thenReturn(1);
+
+        contactStatsService.claimChangeVersion(1L, 4L);
+
+        verify(contactStatsRepository, never()).seed(anyLong());
+    }
+
+    @Test
+    void testClaimChangeVersion_StaleVersion() {
+        when(contactStatsRepository.claimChangeVersion(1L, 3L)).thenReturn(0);
+
+        assertThrows(PreconditionFailedException.class, () ->
+            contactStatsService.claimChangeVersion(1L, 3L)
+        );
+        verify(contactStatsRepository, never()).seed(anyLong());
+    }
+
+    @Test
+    void testClaimChangeVersion_SeedsMissingCounterAtVersionZero() {
+        when(contactStatsRepository.claimChangeVersion(1L, 0L)).thenReturn(0);
+        when(contactStatsRepository.seed(1L)).thenReturn(1);
+
+        contactStatsService.claimChangeVersion(1L, 0L);
+    }
+
+    @Test
+    void testClaimChangeVersion_ZeroIsStaleOnceSeeded() {
+        when(contactStatsRepository.claimChangeVersion(1L, 0L)).thenReturn(0);
+        when(contactStatsRepository.seed(1L)).thenReturn(0);
+
+        assertThrows(PreconditionFailedException.class, () ->
+            contactStatsService.claimChangeVersion(1L, 0L)
+        );
+    }
+
+    @Test
+    void testGetStats_ReadsCounterRow() {
+        when(contactStatsRepository.findById(1L)).thenReturn(
+            Optional.of(stats(3L))
+        );
+
+        ContactStatsResponse response = contactStatsService.getStats(1L);
+
+        assertEquals(3L, response.getTotalContacts());
+        assertEquals(2L, response.getEmailsByType().get(EmailType.WORK));
+        assertEquals(1L, response.getPhonesByType().get(PhoneType.HOME));
+        verify(contactStatsRepository, never()).seed(anyLong());
+    }
+
+    @Test
+    void testRebuild_ReturnsRecomputedCounters() {
+        when(contactStatsRepository.findById(1L)).thenReturn(
+            Optional.of(stats(5L)),
+            Optional.of(stats(3L))
+        );
+
+        ContactStatsResponse response = contactStatsService.rebuild(1L);
+
+        assertEquals(3L, response.getTotalContacts());
+        verify(contactStatsRepository).rebuild(1L);
+    }
+
+    private static Contact contact() {
+        Contact contact = Contact.builder()
+            .firstName("Jane")
+            .lastName("Smith")
+            .build();
+        contact
+            .getEmails()
+            .add(
+                ContactEmail.builder()
+                    .email("jane@work.com")
+                    .type(EmailType.WORK)
+                    .contact(contact)
+                    .build()
+            );
+        return contact;
+    }
+
+    private static ContactStats stats(long totalContacts) {
+        return ContactStats.builder()
+            .userId(1L)
+            .totalContacts(totalContacts)
+            .contactsWithoutEmail(0L)
+            .contactsWithoutPhone(1L)
+            .workEmails(2L)
+            .personalEmails(1L)
+            .otherEmails(0L)
+            .workPhones(1L)
+            .homePhones(1L)
+            .personalPhones(0L)
+            .otherPhones(0L)
+            .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.susa.circle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.susa.circle.dto.response.PhoneLookupResponse;
+import com.susa.circle.entity.Contact;
+import com.susa.circle.entity.ContactPhone;
+import com.susa.circle.enums.PhoneType;
+import com.susa.circle.exception.BadRequestException;
+import com.susa.circle.repository.ContactPhoneRepository;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PhoneLookupServiceTest {
+
+    @Mock
+    private ContactPhoneRepository contactPhoneRepository;
+
+    @InjectMocks
+    private PhoneLookupService phoneLookupService;
+
+    private ContactPhone phone;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(phoneLookupService, "maxBatchSize", 5000);
+
+        Contact contact = Contact.builder()
+            .id(1L)
+            .firstName("Jane")
+            .lastName("Smith")
+            .build();
+        phone = ContactPhone.builder()
+            .id(10L)
+            .phoneNumber("+1 (555) 010-0100")
+            .normalizedNumber("0100100")
+            .type(PhoneType.PERSONAL)
+            .contact(contact)
+            .build();
+    }
+
+    @Test
+    void testLookup_MatchesRegardlessOfFormatting() {
+        when(
+            contactPhoneRepository.findByUserIdAndNormalizedNumberIn(
+                1L,
+                List.of("0100100")
+            )
+        ).thenReturn(List.of(phone));
+
+        PhoneLookupResponse response = phoneLookupService.lookup(
+            1L,
+            "1-555-010-0100"
+        );
+
+        assertEquals("15550100100", response.getNormalizedNumber());
+        assertEquals(1, response.getMatches().size());
+        assertEquals(1L, response.getMatches().get(0).getContactId());
+        assertEquals(10L, response.getMatches().get(0).getPhoneId());
+    }
+
+    @Test
+    void testLookup_BatchKeepsRequestOrderAndQueriesDistinctNumbers() {
+        when(
+            contactPhoneRepository.findByUserIdAndNormalizedNumberIn(
+                1L,
+                List.of("999", "0100100")
+            )
+        ).thenReturn(List.of(phone));
+
+        List<PhoneLookupResponse> responses = phoneLookupService.lookup(
+            1L,
+            List.of("999", "+15550100100", "1 555 010 0100")
+        );
+
+        assertEquals(3, responses.size());
+        assertTrue(responses.get(0).getMatches().isEmpty());
+        assertEquals(1, responses.get(1).getMatches().size());
+        assertEquals("1 555 010 0100", responses.get(2).getNumber());
+        assertEquals(1, responses.get(2).getMatches().size());
+    }
+
+    @Test
+    void testLookup_MatchesWithAndWithoutCountryCode() {
+        ContactPhone local = ContactPhone.builder()
+            .id(11L)
+            .phoneNumber("555-0100")
+            .normalizedNumber("5550100")
+            .type(PhoneType.HOME)
+            .contact(phone.getContact())
+            .build();
+        ContactPhone otherAreaCode = ContactPhone.builder()
+            .id(12L)
+            .phoneNumber("+1 212 555 0100")
+            .normalizedNumber("5550100")
+            .type(PhoneType.WORK)
+            .contact(phone.getContact())
+            .build();
+        when(
+            contactPhoneRepository.findByUserIdAndNormalizedNumberIn(
+                1L,
+                List.of("5550100")
+            )
+        ).thenReturn(List.of(local, otherAreaCode));
+
+        List<PhoneLookupResponse> responses = phoneLookupService.lookup(
+            1L,
+            List.of("+1 555-0100", "+1 (415) 555-0100")
+        );
+
+        assertEquals("15550100", responses.get(0).getNormalizedNumber());
+        assertEquals(
+            List.of(11L),
+            responses
+                .get(0)
+                .getMatches()
+                .stream()
+                .map(match -> match.getPhoneId())
+                .toList()
+        );
+        // Only the number without an area code can be the same line
+        assertEquals(
+            List.of(11L),
+            responses
+                .get(1)
+                .getMatches()
+                .stream()
+                .map(match -> match.getPhoneId())
+                .toList()
+        );
+    }
+
+    @Test
+    void testLookup_LargeBatchIsChunked() {
+        List<String> numbers = IntStream.range(0, 2500)
+            .mapToObj(i -> String.valueOf(1_000_000 + i))
+            .toList();
+        when(
+            contactPhoneRepository.findByUserIdAndNormalizedNumberIn(
+                eq(1L),
+                anyCollection()
+            )
+        ).thenReturn(List.of());
+
+        List<PhoneLookupResponse> responses = phoneLookupService.lookup(
+            1L,
+            numbers
+        );
+
+        assertEquals(2500, responses.size());
+        verify(contactPhoneRepository, times(3)).findByUserIdAndNormalizedNumberIn(
+            eq(1L),
+            anyCollection()
+        );
+    }
+
+    @Test
+    void testLookup_RejectsOversizedBatch() {
+        ReflectionTestUtils.setField(phoneLookupService, "maxBatchSize", 2);
+
+        assertThrows(BadRequestException.class, () ->
+            phoneLookupService.lookup(1L, List.of("1", "2", "3"))
+        );
+        verify(contactPhoneRepository, never()).findByUserIdAndNormalizedNumberIn(
+            anyLong(),
+            anyCollection()
+        );
+    }
+
+    @Test
+    void testLookup_SkipsNumbersWithoutDigits() {
+        List<PhoneLookupResponse> responses = phoneLookupService.lookup(
+            1L,
+            List.of("n/a")
+        );
+
+        assertEquals(1, responses.size());
+        assertTrue(responses.get(0).getMatches().isEmpty());
+        verify(contactPhoneRepository, never()).findByUserIdAndNormalizedNumberIn(
+            anyLong(),
+            anyCollection()
+        );
+    }
+}
@@ -0,0 +1,155 @@
+package com.susa.circle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.susa.circle.entity.RefreshToken;
+import com.susa.circle.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private RefreshToken stored;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(
+            refreshTokenService,
+            "refreshExpirationMillis",
+            60000L
+        );
+        stored = RefreshToken.builder()
+            .id(5L)
+            .userId(1L)
+            .tokenHash(RefreshTokenService.hash("raw-token"))
+            .familyId(UUID.randomUUID())
+            .expiresAt(LocalDateTime.now().plusMinutes(1))
+            .build();
+    }
+
+    @Test
+    void testIssue_StoresOnlyTheHash() {
+        String raw = refreshTokenService.issue(1L);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(
+            RefreshToken.class
+        );
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertNotEquals(raw, saved.getValue().getTokenHash());
+        assertEquals(
+            RefreshTokenService.hash(raw),
+            saved.getValue().getTokenHash()
+        );
+        verify(refreshTokenRepository).deleteExpired(
+            eq(1L),
+            any(LocalDateTime.class)
+        );
+    }
+
+    @Test
+    void testRotate_IssuesSuccessorInSameFamily() {
+        when(
+            refreshTokenRepository.findByTokenHash(stored.getTokenHash())
+        ).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(5L)).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(
+            "raw-token"
+        );
+
+        assertEquals(1L, rotation.getUserId());
+        assertNotEquals("raw-token", rotation.getRefreshToken());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(
+            RefreshToken.class
+        );
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(stored.getFamilyId(), saved.getValue().getFamilyId());
+    }
+
+    @Test
+    void testRotate_PrunesOlderUsedAndExpiredTokens() {
+        when(
+            refreshTokenRepository.findByTokenHash(stored.getTokenHash())
+        ).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(5L)).thenReturn(1);
+
+        refreshTokenService.rotate("raw-token");
+
+        verify(refreshTokenRepository).deleteUsedInFamily(
+            stored.getFamilyId(),
+            5L
+        );
+        verify(refreshTokenRepository).deleteExpired(
+            eq(1L),
+            any(LocalDateTime.class)
+        );
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+    }
+
+    @Test
+    void testRotate_ReusedTokenRevokesFamily() {
+        when(
+            refreshTokenRepository.findByTokenHash(stored.getTokenHash())
+        ).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(5L)).thenReturn(0);
+
+        assertThrows(BadCredentialsException.class, () ->
+            refreshTokenService.rotate("raw-token")
+        );
+
+        verify(refreshTokenRepository).deleteByFamilyId(stored.getFamilyId());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, never()).deleteUsedInFamily(
+            any(),
+            any()
+        );
+    }
+
+    @Test
+    void testRotate_ExpiredToken() {
+        stored.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(
+            refreshTokenRepository.findByTokenHash(stored.getTokenHash())
+        ).thenReturn(Optional.of(stored));
+
+        assertThrows(BadCredentialsException.class, () ->
+            refreshTokenService.rotate("raw-token")
+        );
+
+        verify(refreshTokenRepository, never()).markUsed(any());
+    }
+
+    @Test
+    void testRotate_UnknownToken() {
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(
+            Optional.empty()
+        );
+
+        assertThrows(BadCredentialsException.class, () ->
+            refreshTokenService.rotate("forged")
+        );
+
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+}
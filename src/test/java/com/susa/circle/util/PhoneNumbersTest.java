@@ -0,0 +1,50 @@
+package com.susa.circle.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PhoneNumbersTest {
+
+    @Test
+    void testNormalize_DropsFormattingAndPrefixZeros() {
+        assertEquals("15550100", PhoneNumbers.normalize("+1 555-0100"));
+        assertEquals("15550100", PhoneNumbers.normalize("00 1 555 0100"));
+        assertEquals("2079460958", PhoneNumbers.normalize("020 7946 0958"));
+        assertEquals("", PhoneNumbers.normalize("n/a"));
+        assertNull(PhoneNumbers.normalize(null));
+    }
+
+    @Test
+    void testMatchKey_SameForNumbersWithAndWithoutCountryCode() {
+        assertEquals("5550100", PhoneNumbers.matchKey("+1 555-0100"));
+        assertEquals("5550100", PhoneNumbers.matchKey("555-0100"));
+        assertEquals(
+            PhoneNumbers.matchKey("+44 20 7946 0958"),
+            PhoneNumbers.matchKey("020 7946 0958")
+        );
+        assertEquals("911", PhoneNumbers.matchKey("911"));
+    }
+
+    @Test
+    void testSameNumber() {
+        assertTrue(
+            PhoneNumbers.sameNumber(
+                PhoneNumbers.normalize("+1 555-0100"),
+                PhoneNumbers.normalize("555-0100")
+            )
+        );
+        assertTrue(
+            PhoneNumbers.sameNumber(
+                PhoneNumbers.normalize("+44 20 7946 0958"),
+                PhoneNumbers.normalize("020 7946 0958")
+            )
+        );
+        assertFalse(
+            PhoneNumbers.sameNumber(
+                PhoneNumbers.normalize("+1 415 555 0100"),
+                PhoneNumbers.normalize("+1 212 555 0100")
+            )
+        );
+    }
+}